@@ -0,0 +1,122 @@
+package com.nalutbae.jpa.criteria.micrometer;
+
+import com.nalutbae.jpa.criteria.service.CriteriaInstrumentation;
+import com.nalutbae.jpa.criteria.service.CriteriaProfile;
+import com.nalutbae.jpa.criteria.service.FilterUsage;
+import com.nalutbae.jpa.criteria.service.QueryType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CriteriaInstrumentation}을 Micrometer 메트릭으로 기록하는 계측.
+ * 모든 메트릭에는 조회 기준 클래스 이름이 {@code criteria} 태그로 붙습니다.
+ * <ul>
+ *     <li>{@code criteria.specification.build} - 조회 사양 구성 시간</li>
+ *     <li>{@code criteria.predicate.create} - 조건 변환 시간</li>
+ *     <li>{@code criteria.predicates}, {@code criteria.joins} - 쿼리당 조건과 join의 수</li>
+ *     <li>{@code criteria.filter.in.size}, {@code criteria.filter.notin.size} - 필드별 in/notIn 목록의 크기</li>
+ *     <li>{@code criteria.query} - 쿼리 실행 시간({@code type}, {@code outcome} 태그)</li>
+ *     <li>{@code criteria.unsatisfiable} - 만족할 수 없어 실행하지 않은 조회 기준의 수</li>
+ * </ul>
+ * 필터 형태({@link CriteriaProfile#getShape()})는 값의 종류가 많아질 수 있으므로
+ * {@link #isShapeTagged()}를 재정의한 경우에만 {@code shape} 태그로 붙습니다.
+ */
+public class MicrometerCriteriaInstrumentation implements CriteriaInstrumentation {
+
+    private final MeterRegistry registry;
+
+    /**
+     * @param registry 메트릭을 등록할 레지스트리
+     */
+    public MicrometerCriteriaInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void specificationBuilt(CriteriaProfile profile, long elapsedNanos) {
+        Timer.builder("criteria.specification.build")
+                .tags(tags(profile))
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        for (FilterUsage usage : profile.getFilters()) {
+            recordSize("criteria.filter.in.size", profile, usage, usage.getInSize());
+            recordSize("criteria.filter.notin.size", profile, usage, usage.getNotInSize());
+        }
+    }
+
+    @Override
+    public void predicateCreated(CriteriaProfile profile, long elapsedNanos, int predicateCount, int joinCount) {
+        Tags tags = tags(profile);
+        Timer.builder("criteria.predicate.create")
+                .tags(tags)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("criteria.predicates")
+                .tags(tags)
+                .register(registry)
+                .record(predicateCount);
+        DistributionSummary.builder("criteria.joins")
+                .tags(tags)
+                .register(registry)
+                .record(joinCount);
+    }
+
+    @Override
+    public void queryExecuted(CriteriaProfile profile, QueryType type, long elapsedNanos, long resultCount) {
+        recordQuery(profile, type, "success", elapsedNanos);
+    }
+
+    @Override
+    public void queryFailed(CriteriaProfile profile, QueryType type, long elapsedNanos, RuntimeException failure) {
+        recordQuery(profile, type, "error", elapsedNanos);
+    }
+
+    @Override
+    public void unsatisfiableCriteria(CriteriaProfile profile) {
+        Counter.builder("criteria.unsatisfiable")
+                .tags(tags(profile))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 필터 형태를 {@code shape} 태그로 붙일지 여부. 기본값은 {@code false}입니다.
+     * 조회 기준마다 사용하는 필터 조합이 적을 때만 사용하세요.
+     *
+     * @return {@code shape} 태그를 붙이면 {@code true}
+     */
+    protected boolean isShapeTagged() {
+        return false;
+    }
+
+    /**
+     * @param profile 조회 기준의 요약
+     * @return 모든 메트릭에 공통으로 붙일 태그
+     */
+    protected Tags tags(CriteriaProfile profile) {
+        Tags tags = Tags.of("criteria", profile.getCriteriaType().getSimpleName());
+        return isShapeTagged() ? tags.and("shape", profile.getShape()) : tags;
+    }
+
+    private void recordQuery(CriteriaProfile profile, QueryType type, String outcome, long elapsedNanos) {
+        Timer.builder("criteria.query")
+                .tags(tags(profile).and("type", type.name().toLowerCase()).and("outcome", outcome))
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordSize(String name, CriteriaProfile profile, FilterUsage usage, int size) {
+        if (size < 0) {
+            return;
+        }
+        DistributionSummary.builder(name)
+                .tags(tags(profile).and("field", usage.getFieldName()))
+                .register(registry)
+                .record(size);
+    }
+}
@@ -0,0 +1,268 @@
+package com.nalutbae.jpa.criteria.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code @GenerateSpecification}이 지정된 조회 기준 클래스마다 {@code QueryService}의 하위 클래스를 생성하는 어노테이션 프로세서.
+ * 생성되는 {@code createSpecification(criteria)}는 필터 필드의 유형에 따라 다음 메서드를 호출합니다.
+ * <ul>
+ *     <li>{@code StringFilter} - {@code buildStringSpecification}</li>
+ *     <li>{@code RangeFilter}의 하위 클래스 - {@code buildRangeSpecification}</li>
+ *     <li>그 밖의 {@code Filter} - {@code buildSpecification}</li>
+ *     <li>{@code Boolean distinct} - {@code distinct}</li>
+ * </ul>
+ * 필드 값은 getter로 읽으며, 필드와 같은 이름의 속성이 엔티티에 없으면 컴파일 오류를 보고합니다.
+ */
+@SupportedAnnotationTypes(SpecificationProcessor.ANNOTATION)
+public class SpecificationProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.nalutbae.jpa.criteria.GenerateSpecification";
+
+    private static final String FILTER = "com.nalutbae.jpa.criteria.filter.Filter";
+    private static final String STRING_FILTER = "com.nalutbae.jpa.criteria.filter.StringFilter";
+    private static final String RANGE_FILTER = "com.nalutbae.jpa.criteria.filter.RangeFilter";
+    private static final String QUERY_SERVICE = "com.nalutbae.jpa.criteria.service.QueryService";
+    private static final String SPECIFICATION = "org.springframework.data.jpa.domain.Specification";
+
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateSpecification must be placed on a class", element);
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement criteria) {
+        AnnotationMirror mirror = annotationMirror(criteria);
+        TypeElement entity = null;
+        Set<String> ignored = new HashSet<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            if (name.equals("entity")) {
+                entity = (TypeElement) ((DeclaredType) entry.getValue().getValue()).asElement();
+            } else if (name.equals("ignore")) {
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    ignored.add((String) ((AnnotationValue) value).getValue());
+                }
+            }
+        }
+        if (entity == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateSpecification requires an entity", criteria, mirror);
+            return;
+        }
+
+        Set<String> attributes = attributeNames(entity);
+        List<String> statements = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : fields(criteria).values()) {
+            String name = field.getSimpleName().toString();
+            if (ignored.contains(name)) {
+                continue;
+            }
+            String method = specificationMethod(field);
+            if (method == null) {
+                continue;
+            }
+            String accessor = accessor(criteria, field);
+            if (accessor == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "No getter for criteria field " + name, field);
+                valid = false;
+                continue;
+            }
+            if (method.equals("distinct")) {
+                statements.add(statement(accessor, "distinct(criteria." + accessor + ')'));
+                continue;
+            }
+            if (!attributes.contains(name)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        entity.getSimpleName() + " has no attribute " + name + "; add it to @GenerateSpecification.ignore", field);
+                valid = false;
+                continue;
+            }
+            statements.add(statement(accessor, method + "(criteria." + accessor + ", "
+                    + entity.getQualifiedName() + "_." + name + ')'));
+        }
+        if (valid) {
+            write(criteria, entity, statements);
+        }
+    }
+
+    private static String statement(String accessor, String specification) {
+        return "        if (criteria." + accessor + " != null) {\n"
+                + "            specification = specification.and(" + specification + ");\n"
+                + "        }\n";
+    }
+
+    private void write(TypeElement criteria, TypeElement entity, List<String> statements) {
+        PackageElement packageElement = elements.getPackageOf(criteria);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String className = className(criteria);
+        String criteriaType = criteria.getQualifiedName().toString();
+        String entityType = entity.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public abstract class ").append(className)
+                .append(" extends ").append(QUERY_SERVICE).append('<').append(entityType).append("> {\n\n")
+                .append("    public ").append(SPECIFICATION).append('<').append(entityType).append("> createSpecification(")
+                .append(criteriaType).append(" criteria) {\n")
+                .append("        ").append(SPECIFICATION).append('<').append(entityType).append("> specification = ")
+                .append(SPECIFICATION).append(".where(null);\n")
+                .append("        if (criteria == null) {\n")
+                .append("            return specification;\n")
+                .append("        }\n");
+        statements.forEach(source::append);
+        source.append("        return specification;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        try (Writer writer = filer.createSourceFile(qualifiedName, criteria).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot write " + qualifiedName + ": " + e.getMessage(), criteria);
+        }
+    }
+
+    /**
+     * @return {@code ExampleCriteria → AbstractExampleQueryService}
+     */
+    private static String className(TypeElement criteria) {
+        String name = criteria.getSimpleName().toString();
+        if (name.endsWith("Criteria") && name.length() > "Criteria".length()) {
+            name = name.substring(0, name.length() - "Criteria".length());
+        }
+        return "Abstract" + name + "QueryService";
+    }
+
+    private AnnotationMirror annotationMirror(TypeElement criteria) {
+        for (AnnotationMirror mirror : criteria.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("Missing @GenerateSpecification on " + criteria);
+    }
+
+    /**
+     * 상위 클래스의 필드를 먼저, 선언 순서대로 반환합니다.
+     */
+    private static Map<String, VariableElement> fields(TypeElement type) {
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            fields.putAll(fields((TypeElement) ((DeclaredType) superclass).asElement()));
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.put(field.getSimpleName().toString(), field);
+            }
+        }
+        return fields;
+    }
+
+    private static Set<String> attributeNames(TypeElement entity) {
+        return fields(entity).keySet();
+    }
+
+    /**
+     * @return 필드에 맞는 {@code QueryService}의 메서드 이름, 조회 사양을 구성하지 않는 필드면 {@code null}
+     */
+    private static String specificationMethod(VariableElement field) {
+        TypeMirror type = field.asType();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getQualifiedName().contentEquals("java.lang.Boolean")) {
+            return field.getSimpleName().contentEquals("distinct") ? "distinct" : null;
+        }
+        while (element != null) {
+            String name = element.getQualifiedName().toString();
+            switch (name) {
+                case STRING_FILTER:
+                    return "buildStringSpecification";
+                case RANGE_FILTER:
+                    return "buildRangeSpecification";
+                case FILTER:
+                    return "buildSpecification";
+                default:
+                    TypeMirror superclass = element.getSuperclass();
+                    element = superclass.getKind() == TypeKind.DECLARED
+                            ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code getX()} 호출식, getter가 없으면 private이 아닌 필드의 이름, 둘 다 아니면 {@code null}
+     */
+    private String accessor(TypeElement criteria, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(criteria))) {
+            if (method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return getter + "()";
+            }
+        }
+        return field.getModifiers().contains(Modifier.PRIVATE) ? null : name;
+    }
+}
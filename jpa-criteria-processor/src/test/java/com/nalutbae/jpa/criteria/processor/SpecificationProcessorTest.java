@@ -0,0 +1,136 @@
+package com.nalutbae.jpa.criteria.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * 생성된 {@code QueryService} 하위 클래스는 같은 컴파일에서 함께 컴파일되므로,
+ * 컴파일이 성공하면 생성된 코드가 라이브러리의 메서드 시그니처와 맞는 것입니다.
+ */
+class SpecificationProcessorTest {
+
+    private static final JavaFileObject BASE = JavaFileObjects.forSourceLines("test.Base",
+            "package test;",
+            "",
+            "public class Base {",
+            "    private Long id;",
+            "}");
+
+    private static final JavaFileObject ENTITY = JavaFileObjects.forSourceLines("test.Example",
+            "package test;",
+            "",
+            "public class Example extends Base {",
+            "    private static final long serialVersionUID = 1L;",
+            "    private String name;",
+            "    private java.time.LocalDate day;",
+            "}");
+
+    private static final JavaFileObject METAMODEL = JavaFileObjects.forSourceLines("test.Example_",
+            "package test;",
+            "",
+            "import jakarta.persistence.metamodel.SingularAttribute;",
+            "",
+            "public class Example_ {",
+            "    public static volatile SingularAttribute<Example, Long> id;",
+            "    public static volatile SingularAttribute<Example, String> name;",
+            "    public static volatile SingularAttribute<Example, java.time.LocalDate> day;",
+            "}");
+
+    @Test
+    void generatesCompilableQueryService() {
+        Compilation compilation = compile(criteria(""));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.AbstractExampleQueryService").contentsAsUtf8String()
+                .contains("specification = specification.and(buildRangeSpecification(criteria.getId(), test.Example_.id));");
+        assertThat(compilation).generatedSourceFile("test.AbstractExampleQueryService").contentsAsUtf8String()
+                .contains("specification = specification.and(buildStringSpecification(criteria.getName(), test.Example_.name));");
+        assertThat(compilation).generatedSourceFile("test.AbstractExampleQueryService").contentsAsUtf8String()
+                .contains("specification = specification.and(buildRangeSpecification(criteria.day, test.Example_.day));");
+        assertThat(compilation).generatedSourceFile("test.AbstractExampleQueryService").contentsAsUtf8String()
+                .contains("specification = specification.and(distinct(criteria.getDistinct()));");
+    }
+
+    @Test
+    void rejectsFieldWithoutEntityAttribute() {
+        Compilation compilation = compile(criteria("    private com.nalutbae.jpa.criteria.filter.StringFilter owner;"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Example has no attribute owner; add it to @GenerateSpecification.ignore");
+    }
+
+    @Test
+    void skipsIgnoredField() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines("test.ExampleCriteria",
+                "package test;",
+                "",
+                "import com.nalutbae.jpa.criteria.Criteria;",
+                "import com.nalutbae.jpa.criteria.GenerateSpecification;",
+                "import com.nalutbae.jpa.criteria.filter.StringFilter;",
+                "",
+                "@GenerateSpecification(entity = Example.class, ignore = \"query\")",
+                "public class ExampleCriteria implements Criteria {",
+                "    private StringFilter name;",
+                "    private StringFilter query;",
+                "    public StringFilter getName() { return name; }",
+                "    public StringFilter getQuery() { return query; }",
+                "    public Criteria copy() { return this; }",
+                "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.AbstractExampleQueryService").contentsAsUtf8String()
+                .doesNotContain("getQuery");
+    }
+
+    @Test
+    void rejectsAnnotatedInterface() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines("test.ExampleCriteria",
+                "package test;",
+                "",
+                "@com.nalutbae.jpa.criteria.GenerateSpecification(entity = Example.class)",
+                "public interface ExampleCriteria {",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("@GenerateSpecification must be placed on a class");
+    }
+
+    private static Compilation compile(JavaFileObject criteria) {
+        return javac().withProcessors(new SpecificationProcessor()).compile(BASE, ENTITY, METAMODEL, criteria);
+    }
+
+    /**
+     * @param extraField 조회 기준에 추가할 필드 선언
+     */
+    private static JavaFileObject criteria(String extraField) {
+        return JavaFileObjects.forSourceLines("test.ExampleCriteria",
+                "package test;",
+                "",
+                "import com.nalutbae.jpa.criteria.Criteria;",
+                "import com.nalutbae.jpa.criteria.GenerateSpecification;",
+                "import com.nalutbae.jpa.criteria.filter.LocalDateFilter;",
+                "import com.nalutbae.jpa.criteria.filter.LongFilter;",
+                "import com.nalutbae.jpa.criteria.filter.StringFilter;",
+                "",
+                "@GenerateSpecification(entity = Example.class)",
+                "public class ExampleCriteria implements Criteria {",
+                "    private LongFilter id;",
+                "    private StringFilter name;",
+                "    LocalDateFilter day;",
+                "    private Boolean distinct;",
+                "    private int page;",
+                extraField,
+                "    public LongFilter getId() { return id; }",
+                "    public StringFilter getName() { return name; }",
+                "    public Boolean getDistinct() { return distinct; }",
+                "    public StringFilter getOwner() { return null; }",
+                "    public Criteria copy() { return this; }",
+                "}");
+    }
+}
@@ -0,0 +1,234 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.*;
+
+/**
+ * 벤치마크에서 사용하는 20개 필터로 구성된 조회 기준.
+ * 마지막 5개 필터는 연관 엔티티를 조인해야 하는 필드입니다.
+ */
+public class BenchmarkCriteria implements Criteria {
+
+    private LongFilter id;
+    private UUIDFilter publicId;
+    private StringFilter code;
+    private StringFilter name;
+    private StringFilter status;
+    private StringFilter description;
+    private BigDecimalFilter amount;
+    private IntegerFilter quantity;
+    private DoubleFilter discount;
+    private FloatFilter weight;
+    private ShortFilter priority;
+    private BooleanFilter paid;
+    private InstantFilter createdAt;
+    private LocalDateTimeFilter updatedAt;
+    private LocalDateFilter dueDate;
+    private StringFilter customerName;
+    private IntegerFilter customerGrade;
+    private StringFilter city;
+    private StringFilter zipCode;
+    private StringFilter countryCode;
+    private Boolean distinct;
+
+    public BenchmarkCriteria() {
+    }
+
+    public BenchmarkCriteria(BenchmarkCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.publicId = other.publicId == null ? null : other.publicId.copy();
+        this.code = other.code == null ? null : other.code.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.status = other.status == null ? null : other.status.copy();
+        this.description = other.description == null ? null : other.description.copy();
+        this.amount = other.amount == null ? null : other.amount.copy();
+        this.quantity = other.quantity == null ? null : other.quantity.copy();
+        this.discount = other.discount == null ? null : other.discount.copy();
+        this.weight = other.weight == null ? null : other.weight.copy();
+        this.priority = other.priority == null ? null : other.priority.copy();
+        this.paid = other.paid == null ? null : other.paid.copy();
+        this.createdAt = other.createdAt == null ? null : other.createdAt.copy();
+        this.updatedAt = other.updatedAt == null ? null : other.updatedAt.copy();
+        this.dueDate = other.dueDate == null ? null : other.dueDate.copy();
+        this.customerName = other.customerName == null ? null : other.customerName.copy();
+        this.customerGrade = other.customerGrade == null ? null : other.customerGrade.copy();
+        this.city = other.city == null ? null : other.city.copy();
+        this.zipCode = other.zipCode == null ? null : other.zipCode.copy();
+        this.countryCode = other.countryCode == null ? null : other.countryCode.copy();
+        this.distinct = other.distinct;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BenchmarkCriteria copy() {
+        return new BenchmarkCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public UUIDFilter getPublicId() {
+        return publicId;
+    }
+
+    public void setPublicId(UUIDFilter publicId) {
+        this.publicId = publicId;
+    }
+
+    public StringFilter getCode() {
+        return code;
+    }
+
+    public void setCode(StringFilter code) {
+        this.code = code;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getStatus() {
+        return status;
+    }
+
+    public void setStatus(StringFilter status) {
+        this.status = status;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public BigDecimalFilter getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimalFilter amount) {
+        this.amount = amount;
+    }
+
+    public IntegerFilter getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(IntegerFilter quantity) {
+        this.quantity = quantity;
+    }
+
+    public DoubleFilter getDiscount() {
+        return discount;
+    }
+
+    public void setDiscount(DoubleFilter discount) {
+        this.discount = discount;
+    }
+
+    public FloatFilter getWeight() {
+        return weight;
+    }
+
+    public void setWeight(FloatFilter weight) {
+        this.weight = weight;
+    }
+
+    public ShortFilter getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ShortFilter priority) {
+        this.priority = priority;
+    }
+
+    public BooleanFilter getPaid() {
+        return paid;
+    }
+
+    public void setPaid(BooleanFilter paid) {
+        this.paid = paid;
+    }
+
+    public InstantFilter getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(InstantFilter createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTimeFilter getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTimeFilter updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateFilter getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateFilter dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public StringFilter getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(StringFilter customerName) {
+        this.customerName = customerName;
+    }
+
+    public IntegerFilter getCustomerGrade() {
+        return customerGrade;
+    }
+
+    public void setCustomerGrade(IntegerFilter customerGrade) {
+        this.customerGrade = customerGrade;
+    }
+
+    public StringFilter getCity() {
+        return city;
+    }
+
+    public void setCity(StringFilter city) {
+        this.city = city;
+    }
+
+    public StringFilter getZipCode() {
+        return zipCode;
+    }
+
+    public void setZipCode(StringFilter zipCode) {
+        this.zipCode = zipCode;
+    }
+
+    public StringFilter getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(StringFilter countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+}
@@ -0,0 +1,119 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.benchmark.model.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 인메모리 H2 데이터베이스와 Hibernate {@link SessionFactory}를 구성합니다.
+ */
+public final class BenchmarkDatabase {
+
+    public static final int ORDER_COUNT = 10_000;
+
+    private static final int CUSTOMER_COUNT = 100;
+
+    private static final int ADDRESS_COUNT = 10;
+
+    private static final int BATCH_SIZE = 500;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * 스키마를 생성하고 샘플 데이터를 적재한 {@link SessionFactory}를 반환합니다.
+     *
+     * @param name 인메모리 데이터베이스 이름
+     * @return 새 {@link SessionFactory}
+     */
+    public static SessionFactory create(String name) {
+        SessionFactory sessionFactory = new Configuration()
+                .addAnnotatedClass(BenchmarkCountry.class)
+                .addAnnotatedClass(BenchmarkAddress.class)
+                .addAnnotatedClass(BenchmarkCustomer.class)
+                .addAnnotatedClass(BenchmarkOrder.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.SHOW_SQL, "false")
+                .buildSessionFactory();
+        populate(sessionFactory);
+        return sessionFactory;
+    }
+
+    private static void populate(SessionFactory sessionFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            BenchmarkCountry country = new BenchmarkCountry();
+            country.setId(1L);
+            country.setCode("KR");
+            country.setName("Korea");
+            session.persist(country);
+
+            BenchmarkAddress[] addresses = new BenchmarkAddress[ADDRESS_COUNT];
+            for (int i = 0; i < ADDRESS_COUNT; i++) {
+                BenchmarkAddress address = new BenchmarkAddress();
+                address.setId((long) i + 1);
+                address.setCity(i % 2 == 0 ? "Seoul" : "Busan");
+                address.setZipCode("ZIP-" + (i + 1));
+                address.setCountry(country);
+                session.persist(address);
+                addresses[i] = address;
+            }
+
+            BenchmarkCustomer[] customers = new BenchmarkCustomer[CUSTOMER_COUNT];
+            for (int i = 0; i < CUSTOMER_COUNT; i++) {
+                BenchmarkCustomer customer = new BenchmarkCustomer();
+                customer.setId((long) i + 1);
+                customer.setName("customer-" + (i + 1));
+                customer.setGrade(i % 5 + 1);
+                customer.setAddress(addresses[i % ADDRESS_COUNT]);
+                session.persist(customer);
+                customers[i] = customer;
+            }
+
+            Instant baseInstant = Instant.parse("2024-01-01T00:00:00Z");
+            LocalDateTime baseDateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+            LocalDate baseDate = LocalDate.of(2024, 1, 1);
+            for (int i = 0; i < ORDER_COUNT; i++) {
+                BenchmarkOrder order = new BenchmarkOrder();
+                order.setId((long) i + 1);
+                order.setPublicId(UUID.nameUUIDFromBytes(String.valueOf(i).getBytes()));
+                order.setCode("CODE-" + (i + 1));
+                order.setName("order " + (i + 1));
+                order.setStatus("STATUS-" + (i % 10 + 1));
+                order.setDescription(i % 3 == 0 ? null : "description of order " + (i + 1));
+                order.setAmount(BigDecimal.valueOf(i % 1_000, 2));
+                order.setQuantity(i % 100 + 1);
+                order.setDiscount((i % 50) / 100d);
+                order.setWeight((float) (i % 100));
+                order.setPriority((short) (i % 10));
+                order.setPaid(i % 2 == 0);
+                order.setCreatedAt(baseInstant.plus(i, ChronoUnit.MINUTES));
+                order.setUpdatedAt(baseDateTime.plusMinutes(i));
+                order.setDueDate(baseDate.plusDays(i % 365));
+                order.setCustomer(customers[i % CUSTOMER_COUNT]);
+                session.persist(order);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+
+            transaction.commit();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.benchmark.model.*;
+import com.nalutbae.jpa.criteria.service.QueryService;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * README의 사용 예시와 같은 방식으로 {@link BenchmarkCriteria}를 {@link Specification}으로 변환하는 서비스
+ */
+public class BenchmarkQueryService extends QueryService<BenchmarkOrder> {
+
+    private final boolean predicatePlanEnabled;
+
+    private final boolean joinReuseEnabled;
+
+    public BenchmarkQueryService() {
+        this(false);
+    }
+
+    public BenchmarkQueryService(boolean predicatePlanEnabled) {
+        this(predicatePlanEnabled, false);
+    }
+
+    /**
+     * @param predicatePlanEnabled 조건 구성 계획 캐시 사용 여부
+     * @param joinReuseEnabled     연관 엔티티 필터가 {@link #join}으로 join을 재사용하는지 여부,
+     *                             {@code false}이면 필터마다 {@code root.join(...)}을 호출합니다.
+     */
+    public BenchmarkQueryService(boolean predicatePlanEnabled, boolean joinReuseEnabled) {
+        this.predicatePlanEnabled = predicatePlanEnabled;
+        this.joinReuseEnabled = joinReuseEnabled;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isPredicatePlanEnabled() {
+        return predicatePlanEnabled;
+    }
+
+    public Specification<BenchmarkOrder> createSpecification(BenchmarkCriteria criteria) {
+        Specification<BenchmarkOrder> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), BenchmarkOrder_.id));
+            }
+            if (criteria.getPublicId() != null) {
+                specification = specification.and(buildSpecification(criteria.getPublicId(), BenchmarkOrder_.publicId));
+            }
+            if (criteria.getCode() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCode(), BenchmarkOrder_.code));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), BenchmarkOrder_.name));
+            }
+            if (criteria.getStatus() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getStatus(), BenchmarkOrder_.status));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), BenchmarkOrder_.description));
+            }
+            if (criteria.getAmount() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getAmount(), BenchmarkOrder_.amount));
+            }
+            if (criteria.getQuantity() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getQuantity(), BenchmarkOrder_.quantity));
+            }
+            if (criteria.getDiscount() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDiscount(), BenchmarkOrder_.discount));
+            }
+            if (criteria.getWeight() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getWeight(), BenchmarkOrder_.weight));
+            }
+            if (criteria.getPriority() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPriority(), BenchmarkOrder_.priority));
+            }
+            if (criteria.getPaid() != null) {
+                specification = specification.and(buildSpecification(criteria.getPaid(), BenchmarkOrder_.paid));
+            }
+            if (criteria.getCreatedAt() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getCreatedAt(), BenchmarkOrder_.createdAt));
+            }
+            if (criteria.getUpdatedAt() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getUpdatedAt(), BenchmarkOrder_.updatedAt));
+            }
+            if (criteria.getDueDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDueDate(), BenchmarkOrder_.dueDate));
+            }
+            if (criteria.getCustomerName() != null) {
+                specification = specification.and(buildSpecification(criteria.getCustomerName(),
+                        root -> customer(root).get(BenchmarkCustomer_.name)));
+            }
+            if (criteria.getCustomerGrade() != null) {
+                specification = specification.and(buildSpecification(criteria.getCustomerGrade(),
+                        root -> customer(root).get(BenchmarkCustomer_.grade)));
+            }
+            if (criteria.getCity() != null) {
+                specification = specification.and(buildSpecification(criteria.getCity(),
+                        root -> address(root).get(BenchmarkAddress_.city)));
+            }
+            if (criteria.getZipCode() != null) {
+                specification = specification.and(buildSpecification(criteria.getZipCode(),
+                        root -> address(root).get(BenchmarkAddress_.zipCode)));
+            }
+            if (criteria.getCountryCode() != null) {
+                specification = specification.and(buildSpecification(criteria.getCountryCode(),
+                        root -> country(root).get(BenchmarkCountry_.code)));
+            }
+        }
+        return specification;
+    }
+
+    private From<?, BenchmarkCustomer> customer(Root<BenchmarkOrder> root) {
+        return joinReuseEnabled ? join(root, BenchmarkOrder_.customer) : root.join(BenchmarkOrder_.customer);
+    }
+
+    private From<?, BenchmarkAddress> address(Root<BenchmarkOrder> root) {
+        return joinReuseEnabled ? join(customer(root), BenchmarkCustomer_.address)
+                : customer(root).join(BenchmarkCustomer_.address);
+    }
+
+    private From<?, BenchmarkCountry> country(Root<BenchmarkOrder> root) {
+        return joinReuseEnabled ? join(address(root), BenchmarkAddress_.country)
+                : address(root).join(BenchmarkAddress_.country);
+    }
+}
@@ -0,0 +1,132 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.filter.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 측정하는 조회 기준의 유형
+ */
+public enum CriteriaScenario {
+
+    /**
+     * 20개의 필터가 모두 채워진 요청
+     */
+    TWENTY_FILTERS {
+        @Override
+        public BenchmarkCriteria create(int inSize) {
+            BenchmarkCriteria criteria = new BenchmarkCriteria();
+            criteria.setId((LongFilter) new LongFilter().setGreaterThanOrEqual(1L).setLessThan(1_000_000L));
+            criteria.setPublicId((UUIDFilter) new UUIDFilter().setExists(true));
+            criteria.setCode((StringFilter) new StringFilter().setIn(strings("CODE-", inSize)));
+            criteria.setName(new StringFilter().setContains("order"));
+            criteria.setStatus((StringFilter) new StringFilter().setNotIn(List.of("CANCELLED", "DELETED")));
+            criteria.setDescription(new StringFilter().setDoesNotContain("test"));
+            criteria.setAmount((BigDecimalFilter) new BigDecimalFilter().setGreaterThan(BigDecimal.ZERO));
+            criteria.setQuantity((IntegerFilter) new IntegerFilter().setLessThanOrEqual(100));
+            criteria.setDiscount((DoubleFilter) new DoubleFilter().setLessThan(0.5d));
+            criteria.setWeight((FloatFilter) new FloatFilter().setNotEquals(0f));
+            criteria.setPriority((ShortFilter) new ShortFilter().setIn(List.of((short) 1, (short) 2, (short) 3)));
+            criteria.setPaid((BooleanFilter) new BooleanFilter().setEquals(true));
+            criteria.setCreatedAt(new InstantFilter().setGreaterThanOrEqual(Instant.parse("2020-01-01T00:00:00Z")));
+            criteria.setUpdatedAt(new LocalDateTimeFilter().setLessThan(LocalDateTime.of(2030, 1, 1, 0, 0)));
+            criteria.setDueDate(new LocalDateFilter().setGreaterThan(LocalDate.of(2020, 1, 1)));
+            criteria.setCustomerName(new StringFilter().setContains("customer"));
+            criteria.setCustomerGrade((IntegerFilter) new IntegerFilter().setGreaterThanOrEqual(1));
+            criteria.setCity((StringFilter) new StringFilter().setEquals("Seoul"));
+            criteria.setZipCode((StringFilter) new StringFilter().setExists(true));
+            criteria.setCountryCode((StringFilter) new StringFilter().setIn(List.of("KR", "JP", "US")));
+            return criteria;
+        }
+    },
+
+    /**
+     * 큰 {@code in}, {@code notIn} 목록이 포함된 요청
+     */
+    LARGE_IN {
+        @Override
+        public BenchmarkCriteria create(int inSize) {
+            BenchmarkCriteria criteria = new BenchmarkCriteria();
+            criteria.setId((LongFilter) new LongFilter().setIn(longs(inSize)));
+            criteria.setCode((StringFilter) new StringFilter().setNotIn(strings("CODE-", inSize)));
+            criteria.setStatus((StringFilter) new StringFilter().setIn(strings("STATUS-", inSize)));
+            return criteria;
+        }
+    },
+
+    /**
+     * 여러 {@link RangeFilter}에 상한, 하한, notEquals, notIn 조건이 함께 지정된 요청
+     */
+    MANY_RANGE_BOUNDS {
+        @Override
+        public BenchmarkCriteria create(int inSize) {
+            BenchmarkCriteria criteria = new BenchmarkCriteria();
+            criteria.setId((LongFilter) new LongFilter().setGreaterThan(0L).setGreaterThanOrEqual(1L)
+                    .setLessThan(1_000_000L).setLessThanOrEqual(999_999L).setNotEquals(42L)
+                    .setNotIn(longs(inSize)).setExists(true));
+            criteria.setAmount((BigDecimalFilter) new BigDecimalFilter().setGreaterThan(BigDecimal.ZERO)
+                    .setLessThanOrEqual(BigDecimal.valueOf(10_000)).setNotEquals(BigDecimal.TEN));
+            criteria.setQuantity((IntegerFilter) new IntegerFilter().setGreaterThanOrEqual(1).setLessThan(1_000)
+                    .setExists(true));
+            criteria.setDiscount((DoubleFilter) new DoubleFilter().setGreaterThanOrEqual(0d).setLessThan(1d));
+            criteria.setWeight((FloatFilter) new FloatFilter().setGreaterThan(0f).setLessThanOrEqual(100f));
+            criteria.setPriority((ShortFilter) new ShortFilter().setGreaterThanOrEqual((short) 0)
+                    .setLessThanOrEqual((short) 10));
+            criteria.setCreatedAt(new InstantFilter().setGreaterThanOrEqual(Instant.parse("2020-01-01T00:00:00Z"))
+                    .setLessThan(Instant.parse("2030-01-01T00:00:00Z")));
+            criteria.setUpdatedAt(new LocalDateTimeFilter().setGreaterThan(LocalDateTime.of(2020, 1, 1, 0, 0))
+                    .setLessThanOrEqual(LocalDateTime.of(2030, 1, 1, 0, 0)));
+            criteria.setDueDate(new LocalDateFilter().setGreaterThanOrEqual(LocalDate.of(2020, 1, 1))
+                    .setLessThan(LocalDate.of(2030, 1, 1)));
+            criteria.setCustomerGrade((IntegerFilter) new IntegerFilter().setGreaterThan(0).setLessThan(10));
+            return criteria;
+        }
+    },
+
+    /**
+     * order → customer → address → country 경로로 조인해야 하는 필터만 포함된 요청
+     */
+    DEEP_JOIN {
+        @Override
+        public BenchmarkCriteria create(int inSize) {
+            BenchmarkCriteria criteria = new BenchmarkCriteria();
+            criteria.setCustomerName(new StringFilter().setContains("customer"));
+            criteria.setCustomerGrade((IntegerFilter) new IntegerFilter().setGreaterThanOrEqual(1));
+            criteria.setCity((StringFilter) new StringFilter().setEquals("Seoul"));
+            criteria.setZipCode((StringFilter) new StringFilter().setIn(strings("ZIP-", inSize)));
+            criteria.setCountryCode((StringFilter) new StringFilter().setEquals("KR"));
+            criteria.setDistinct(true);
+            return criteria;
+        }
+    };
+
+    /**
+     * 시나리오에 해당하는 조회 기준을 생성합니다.
+     *
+     * @param inSize {@code in}, {@code notIn} 목록의 크기
+     * @return 새 조회 기준
+     */
+    public abstract BenchmarkCriteria create(int inSize);
+
+    private static List<Long> longs(int size) {
+        List<Long> values = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static List<String> strings(String prefix, int size) {
+        List<String> values = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            values.add(prefix + i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,106 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.benchmark.model.BenchmarkOrder;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 H2 데이터베이스에 연결된 실제 Hibernate {@link CriteriaBuilder}를 사용하여
+ * {@link Specification#toPredicate} 비용과 조회 쿼리 실행 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PredicateBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"TWENTY_FILTERS", "LARGE_IN", "MANY_RANGE_BOUNDS", "DEEP_JOIN"})
+    private CriteriaScenario scenario;
+
+    @Param({"10", "1000"})
+    private int inSize;
+
+    @Param({"false", "true"})
+    private boolean predicatePlan;
+
+    @Param({"false", "true"})
+    private boolean joinReuse;
+
+    private SessionFactory sessionFactory;
+
+    private Session session;
+
+    private CriteriaBuilder builder;
+
+    private BenchmarkQueryService queryService;
+
+    private BenchmarkCriteria criteria;
+
+    private Specification<BenchmarkOrder> specification;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.create("predicate_" + scenario.name().toLowerCase() + "_" + inSize);
+        session = sessionFactory.openSession();
+        builder = sessionFactory.getCriteriaBuilder();
+        queryService = new BenchmarkQueryService(predicatePlan, joinReuse);
+        criteria = scenario.create(inSize);
+        specification = queryService.createSpecification(criteria);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    /**
+     * 미리 구성된 사양을 {@link Predicate}로 변환하는 비용
+     */
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaQuery<BenchmarkOrder> query = builder.createQuery(BenchmarkOrder.class);
+        Root<BenchmarkOrder> root = query.from(BenchmarkOrder.class);
+        return specification.toPredicate(root, query, builder);
+    }
+
+    /**
+     * 요청마다 사양을 구성하고 {@link Predicate}로 변환하는 비용
+     */
+    @Benchmark
+    public Predicate buildAndToPredicate() {
+        Specification<BenchmarkOrder> built = queryService.createSpecification(criteria);
+        CriteriaQuery<BenchmarkOrder> query = builder.createQuery(BenchmarkOrder.class);
+        Root<BenchmarkOrder> root = query.from(BenchmarkOrder.class);
+        return built.toPredicate(root, query, builder);
+    }
+
+    /**
+     * 사양 구성부터 첫 페이지 조회까지 요청 하나의 전체 비용
+     */
+    @Benchmark
+    public List<BenchmarkOrder> execute() {
+        Specification<BenchmarkOrder> built = queryService.createSpecification(criteria);
+        CriteriaQuery<BenchmarkOrder> query = builder.createQuery(BenchmarkOrder.class);
+        Root<BenchmarkOrder> root = query.from(BenchmarkOrder.class);
+        Predicate predicate = built.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<BenchmarkOrder> result = session.createQuery(query.select(root))
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        session.clear();
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.nalutbae.jpa.criteria.benchmark;
+
+import com.nalutbae.jpa.criteria.benchmark.model.BenchmarkOrder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BenchmarkCriteria}로부터 {@link Specification} 람다 체인을 구성하는 비용을 측정합니다.
+ * 데이터베이스나 {@code CriteriaBuilder}를 사용하지 않으므로 순수한 사양 구성 비용만 포함됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBuildBenchmark {
+
+    @Param({"TWENTY_FILTERS", "LARGE_IN", "MANY_RANGE_BOUNDS", "DEEP_JOIN"})
+    private CriteriaScenario scenario;
+
+    @Param({"10", "1000", "10000"})
+    private int inSize;
+
+    @Param({"false", "true"})
+    private boolean predicatePlan;
+
+    private BenchmarkQueryService queryService;
+
+    private BenchmarkCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        queryService = new BenchmarkQueryService(predicatePlan);
+        criteria = scenario.create(inSize);
+    }
+
+    @Benchmark
+    public Specification<BenchmarkOrder> buildSpecification() {
+        return queryService.createSpecification(criteria);
+    }
+
+    @Benchmark
+    public Specification<BenchmarkOrder> copyAndBuildSpecification() {
+        return queryService.createSpecification(criteria.copy());
+    }
+}
@@ -0,0 +1,55 @@
+package com.nalutbae.jpa.criteria.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * 벤치마크 고객의 주소 엔티티
+ */
+@Entity
+public class BenchmarkAddress {
+
+    @Id
+    private Long id;
+
+    private String city;
+
+    private String zipCode;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private BenchmarkCountry country;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    public void setZipCode(String zipCode) {
+        this.zipCode = zipCode;
+    }
+
+    public BenchmarkCountry getCountry() {
+        return country;
+    }
+
+    public void setCountry(BenchmarkCountry country) {
+        this.country = country;
+    }
+}
@@ -0,0 +1,42 @@
+package com.nalutbae.jpa.criteria.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * 벤치마크의 깊은 조인 경로(order → customer → address → country) 끝에 위치하는 엔티티
+ */
+@Entity
+public class BenchmarkCountry {
+
+    @Id
+    private Long id;
+
+    private String code;
+
+    private String name;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
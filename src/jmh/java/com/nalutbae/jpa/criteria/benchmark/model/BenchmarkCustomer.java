@@ -0,0 +1,55 @@
+package com.nalutbae.jpa.criteria.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * 벤치마크 주문의 고객 엔티티
+ */
+@Entity
+public class BenchmarkCustomer {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Integer grade;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private BenchmarkAddress address;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getGrade() {
+        return grade;
+    }
+
+    public void setGrade(Integer grade) {
+        this.grade = grade;
+    }
+
+    public BenchmarkAddress getAddress() {
+        return address;
+    }
+
+    public void setAddress(BenchmarkAddress address) {
+        this.address = address;
+    }
+}
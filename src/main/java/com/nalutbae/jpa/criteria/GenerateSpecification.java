@@ -0,0 +1,37 @@
+package com.nalutbae.jpa.criteria;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조회 기준 클래스에 지정하면 {@code jpa-criteria-processor} 어노테이션 프로세서가
+ * 필터 필드마다 조회 사양을 구성하는 {@code QueryService}의 하위 클래스를 컴파일 시점에 생성합니다.
+ * 생성되는 클래스는 리플렉션 없이 필드를 차례로 검사하는 {@code createSpecification(criteria)}를 가지며,
+ * 이름은 조회 기준 클래스 이름에서 {@code Criteria}를 뺀 {@code Abstract{이름}QueryService}입니다.
+ * <pre>
+ *      &#64;GenerateSpecification(entity = Example.class)
+ *      public class ExampleCriteria implements Criteria { ... }
+ *
+ *      &#64;Service
+ *      public class ExampleQueryService extends AbstractExampleQueryService { ... }
+ * </pre>
+ * 필드는 같은 이름의 엔티티 속성과 JPA 정적 메타모델({@code Example_})로 연결됩니다.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateSpecification {
+
+    /**
+     * @return 조회할 엔티티 클래스
+     */
+    Class<?> entity();
+
+    /**
+     * @return 조회 사양을 구성하지 않을 필드의 이름
+     */
+    String[] ignore() default {};
+}
@@ -33,14 +33,25 @@ public class Filter<FIELD_TYPE> implements Serializable {
         equals = filter.equals;
         notEquals = filter.notEquals;
         exists = filter.exists;
-        in = filter.in == null ? null : new ArrayList<>(filter.in);
-        notIn = filter.notIn == null ? null : new ArrayList<>(filter.notIn);
+        in = filter.in == null ? null : filter.copyValues(filter.in);
+        notIn = filter.notIn == null ? null : filter.copyValues(filter.notIn);
     }
 
     public Filter<FIELD_TYPE> copy() {
         return new Filter<>(this);
     }
 
+    /**
+     * 복사 생성자에서 in, notIn 목록을 복사합니다.
+     * 변경할 수 없는 목록을 사용하는 필터는 복사하지 않고 그대로 공유하도록 재정의할 수 있습니다.
+     *
+     * @param values 복사할 목록
+     * @return 새 필터에서 사용할 목록
+     */
+    protected List<FIELD_TYPE> copyValues(List<FIELD_TYPE> values) {
+        return new ArrayList<>(values);
+    }
+
     public FIELD_TYPE getEquals() {
         return equals;
     }
@@ -0,0 +1,42 @@
+package com.nalutbae.jpa.criteria.filter;
+
+/**
+ * 필터에서 사용할 수 있는 조회 연산자.
+ * 각 연산자의 이름은 프론트엔드에서 사용하는 쿼리 파라미터 이름과 같습니다.
+ *
+ * @see FilterShape
+ */
+public enum FilterOperator {
+
+    EQUALS("equals"),
+    NOT_EQUALS("notEquals"),
+    EXISTS("exists"),
+    IN("in"),
+    NOT_IN("notIn"),
+    CONTAINS("contains"),
+    DOES_NOT_CONTAIN("doesNotContain"),
+    STARTS_WITH("startsWith"),
+    ENDS_WITH("endsWith"),
+    FULL_TEXT("fullText"),
+    GREATER_THAN("greaterThan"),
+    LESS_THAN("lessThan"),
+    GREATER_THAN_OR_EQUAL("greaterThanOrEqual"),
+    LESS_THAN_OR_EQUAL("lessThanOrEqual");
+
+    private final String parameterName;
+
+    FilterOperator(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * @return 쿼리 파라미터에서 사용하는 연산자 이름
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    int mask() {
+        return 1 << ordinal();
+    }
+}
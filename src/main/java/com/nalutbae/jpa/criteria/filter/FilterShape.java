@@ -0,0 +1,160 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 필터에서 값이 지정된 연산자의 조합(필터의 "모양").
+ * 값은 다르지만 같은 연산자를 사용하는 요청들은 같은 모양을 가지므로,
+ * 조회 쿼리의 구조를 캐시하거나 요청 유형을 집계할 때 키로 사용할 수 있습니다.
+ * <pre>
+ *      fieldName.greaterThan=1&amp;fieldName.lessThan=5   → greaterThan+lessThan
+ *      fieldName.greaterThan=7&amp;fieldName.lessThan=9   → greaterThan+lessThan
+ * </pre>
+ */
+public final class FilterShape implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final FilterOperator[] OPERATORS = FilterOperator.values();
+
+    private static final FilterShape EMPTY = new FilterShape(0);
+
+    private final int mask;
+
+    private FilterShape(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * 필터에서 값이 지정된 연산자의 조합을 반환합니다.
+     *
+     * @param filter 검사할 필터
+     * @return 필터의 모양. 필터가 {@code null}이면 비어 있는 모양
+     */
+    public static FilterShape of(Filter<?> filter) {
+        if (filter == null) {
+            return EMPTY;
+        }
+        int mask = 0;
+        if (filter.getEquals() != null) {
+            mask |= FilterOperator.EQUALS.mask();
+        }
+        if (filter.getNotEquals() != null) {
+            mask |= FilterOperator.NOT_EQUALS.mask();
+        }
+        if (filter.getExists() != null) {
+            mask |= FilterOperator.EXISTS.mask();
+        }
+        if (filter.getIn() != null) {
+            mask |= FilterOperator.IN.mask();
+        }
+        if (filter.getNotIn() != null) {
+            mask |= FilterOperator.NOT_IN.mask();
+        }
+        if (filter instanceof StringFilter stringFilter) {
+            if (stringFilter.getContains() != null) {
+                mask |= FilterOperator.CONTAINS.mask();
+            }
+            if (stringFilter.getDoesNotContain() != null) {
+                mask |= FilterOperator.DOES_NOT_CONTAIN.mask();
+            }
+            if (stringFilter.getStartsWith() != null) {
+                mask |= FilterOperator.STARTS_WITH.mask();
+            }
+            if (stringFilter.getEndsWith() != null) {
+                mask |= FilterOperator.ENDS_WITH.mask();
+            }
+            if (stringFilter.getFullText() != null) {
+                mask |= FilterOperator.FULL_TEXT.mask();
+            }
+        } else if (filter instanceof RangeFilter<?> rangeFilter) {
+            if (rangeFilter.getGreaterThan() != null) {
+                mask |= FilterOperator.GREATER_THAN.mask();
+            }
+            if (rangeFilter.getLessThan() != null) {
+                mask |= FilterOperator.LESS_THAN.mask();
+            }
+            if (rangeFilter.getGreaterThanOrEqual() != null) {
+                mask |= FilterOperator.GREATER_THAN_OR_EQUAL.mask();
+            }
+            if (rangeFilter.getLessThanOrEqual() != null) {
+                mask |= FilterOperator.LESS_THAN_OR_EQUAL.mask();
+            }
+        }
+        return mask == 0 ? EMPTY : new FilterShape(mask);
+    }
+
+    /**
+     * 주어진 연산자들로 구성된 모양을 반환합니다.
+     *
+     * @param operators 값이 지정된 연산자
+     * @return 연산자 조합
+     */
+    public static FilterShape of(FilterOperator... operators) {
+        int mask = 0;
+        for (FilterOperator operator : operators) {
+            mask |= operator.mask();
+        }
+        return mask == 0 ? EMPTY : new FilterShape(mask);
+    }
+
+    public boolean contains(FilterOperator operator) {
+        return (mask & operator.mask()) != 0;
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    public Set<FilterOperator> getOperators() {
+        EnumSet<FilterOperator> operators = EnumSet.noneOf(FilterOperator.class);
+        for (FilterOperator operator : OPERATORS) {
+            if (contains(operator)) {
+                operators.add(operator);
+            }
+        }
+        return operators;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return mask == ((FilterShape) o).mask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        if (mask == 0) {
+            return "empty";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (FilterOperator operator : OPERATORS) {
+            if (contains(operator)) {
+                if (builder.length() > 0) {
+                    builder.append('+');
+                }
+                builder.append(operator.getParameterName());
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.util.List;
+
+/**
+ * 아주 많은 id 목록을 위한 {@link IntegerFilter}.
+ * in, notIn 목록을 박싱된 {@link Integer} 대신 정렬되고 중복이 제거된 {@code int[]} 배열로 보관하므로
+ * 수만 개의 값을 받는 요청에서도 메모리 사용이 적고, {@link #copy()}는 배열을 복사하지 않고 공유합니다.
+ * {@link #getIn()}, {@link #getNotIn()}은 배열을 감싼 변경할 수 없는 목록을 반환하며,
+ * 포함 여부는 {@link #inContains(int)}, {@link #notInContains(int)}로 이진 탐색하여 확인할 수 있습니다.
+ * <pre>
+ *      fieldName.in=43,42
+ *      fieldName.notIn=43,42
+ * </pre>
+ *
+ * @see IntegerFilter
+ */
+public class IntegerArrayFilter extends IntegerFilter {
+
+    private static final long serialVersionUID = 1L;
+
+    public IntegerArrayFilter() {
+    }
+
+    public IntegerArrayFilter(IntegerArrayFilter filter) {
+        super(filter);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IntegerArrayFilter copy() {
+        return new IntegerArrayFilter(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<Integer> copyValues(List<Integer> values) {
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IntegerArrayFilter setIn(List<Integer> in) {
+        super.setIn(in == null ? null : SortedIntegerList.of(in));
+        return this;
+    }
+
+    public IntegerArrayFilter setInValues(int... in) {
+        super.setIn(in == null ? null : SortedIntegerList.of(in));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IntegerArrayFilter setNotIn(List<Integer> notIn) {
+        super.setNotIn(notIn == null ? null : SortedIntegerList.of(notIn));
+        return this;
+    }
+
+    public IntegerArrayFilter setNotInValues(int... notIn) {
+        super.setNotIn(notIn == null ? null : SortedIntegerList.of(notIn));
+        return this;
+    }
+
+    /**
+     * @return 정렬되고 중복이 제거된 in 목록의 복사본, in이 지정되지 않았으면 {@code null}
+     */
+    public int[] getInValues() {
+        return getIn() == null ? null : ((SortedIntegerList) getIn()).toPrimitiveArray();
+    }
+
+    /**
+     * @return 정렬되고 중복이 제거된 notIn 목록의 복사본(null 제외), notIn이 지정되지 않았으면 {@code null}
+     */
+    public int[] getNotInValues() {
+        return getNotIn() == null ? null : ((SortedIntegerList) getNotIn()).toPrimitiveArray();
+    }
+
+    public boolean inContains(int value) {
+        return getIn() != null && ((SortedIntegerList) getIn()).contains(value);
+    }
+
+    public boolean notInContains(int value) {
+        return getNotIn() != null && ((SortedIntegerList) getNotIn()).contains(value);
+    }
+
+}
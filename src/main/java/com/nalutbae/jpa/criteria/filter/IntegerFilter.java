@@ -4,6 +4,7 @@ package com.nalutbae.jpa.criteria.filter;
  * {@link Integer} 속성 필드에 사용할 수 있는 쿼리 필터.
  *
  * @see RangeFilter
+ * @see IntegerArrayFilter
  */
 public class IntegerFilter extends RangeFilter<Integer> {
 
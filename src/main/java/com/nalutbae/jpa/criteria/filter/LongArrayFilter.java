@@ -0,0 +1,87 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.util.List;
+
+/**
+ * 아주 많은 id 목록을 위한 {@link LongFilter}.
+ * in, notIn 목록을 박싱된 {@link Long} 대신 정렬되고 중복이 제거된 {@code long[]} 배열로 보관하므로
+ * 수만 개의 id를 받는 요청에서도 메모리 사용이 적고, {@link #copy()}는 배열을 복사하지 않고 공유합니다.
+ * {@link #getIn()}, {@link #getNotIn()}은 배열을 감싼 변경할 수 없는 목록을 반환하며,
+ * 포함 여부는 {@link #inContains(long)}, {@link #notInContains(long)}로 이진 탐색하여 확인할 수 있습니다.
+ * <pre>
+ *      fieldName.in=43,42
+ *      fieldName.notIn=43,42
+ * </pre>
+ *
+ * @see LongFilter
+ */
+public class LongArrayFilter extends LongFilter {
+
+    private static final long serialVersionUID = 1L;
+
+    public LongArrayFilter() {
+    }
+
+    public LongArrayFilter(LongArrayFilter filter) {
+        super(filter);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LongArrayFilter copy() {
+        return new LongArrayFilter(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<Long> copyValues(List<Long> values) {
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LongArrayFilter setIn(List<Long> in) {
+        super.setIn(in == null ? null : SortedLongList.of(in));
+        return this;
+    }
+
+    public LongArrayFilter setInValues(long... in) {
+        super.setIn(in == null ? null : SortedLongList.of(in));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LongArrayFilter setNotIn(List<Long> notIn) {
+        super.setNotIn(notIn == null ? null : SortedLongList.of(notIn));
+        return this;
+    }
+
+    public LongArrayFilter setNotInValues(long... notIn) {
+        super.setNotIn(notIn == null ? null : SortedLongList.of(notIn));
+        return this;
+    }
+
+    /**
+     * @return 정렬되고 중복이 제거된 in 목록의 복사본, in이 지정되지 않았으면 {@code null}
+     */
+    public long[] getInValues() {
+        return getIn() == null ? null : ((SortedLongList) getIn()).toPrimitiveArray();
+    }
+
+    /**
+     * @return 정렬되고 중복이 제거된 notIn 목록의 복사본(null 제외), notIn이 지정되지 않았으면 {@code null}
+     */
+    public long[] getNotInValues() {
+        return getNotIn() == null ? null : ((SortedLongList) getNotIn()).toPrimitiveArray();
+    }
+
+    public boolean inContains(long value) {
+        return getIn() != null && ((SortedLongList) getIn()).contains(value);
+    }
+
+    public boolean notInContains(long value) {
+        return getNotIn() != null && ((SortedLongList) getNotIn()).contains(value);
+    }
+
+}
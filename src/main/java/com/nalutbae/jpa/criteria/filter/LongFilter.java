@@ -4,6 +4,7 @@ package com.nalutbae.jpa.criteria.filter;
  * {@link Long} 속성 필드에 사용할 수 있는 쿼리 필터.
  *
  * @see RangeFilter
+ * @see LongArrayFilter
  */
 public class LongFilter extends RangeFilter<Long> {
 
@@ -0,0 +1,72 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬되고 중복이 제거된 {@code int[]} 배열을 감싼 변경할 수 없는 목록.
+ *
+ * @see SortedNumberList
+ */
+final class SortedIntegerList extends SortedNumberList<Integer> {
+
+    private static final long serialVersionUID = 2L;
+
+    private final int[] values;
+
+    private SortedIntegerList(int[] values, boolean containsNull) {
+        super(containsNull);
+        this.values = values;
+    }
+
+    static SortedIntegerList of(Collection<Integer> values) {
+        if (values instanceof SortedIntegerList sorted) {
+            return sorted;
+        }
+        int[] array = new int[values.size()];
+        int size = 0;
+        for (Integer value : values) {
+            if (value != null) {
+                array[size++] = value;
+            }
+        }
+        return new SortedIntegerList(distinct(array, size), containsNull(values));
+    }
+
+    static SortedIntegerList of(int... values) {
+        return new SortedIntegerList(distinct(values.clone(), values.length), false);
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    int[] toPrimitiveArray() {
+        return values.clone();
+    }
+
+    @Override
+    int valueCount() {
+        return values.length;
+    }
+
+    @Override
+    Integer value(int index) {
+        return values[index];
+    }
+
+    @Override
+    int valueHashCode(int index) {
+        return Integer.hashCode(values[index]);
+    }
+
+    @Override
+    boolean containsValue(Object value) {
+        return value instanceof Integer number && contains(number.intValue());
+    }
+
+    @Override
+    boolean valuesEqual(SortedNumberList<?> other) {
+        return Arrays.equals(values, ((SortedIntegerList) other).values);
+    }
+}
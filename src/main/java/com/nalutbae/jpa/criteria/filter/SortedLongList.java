@@ -0,0 +1,72 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬되고 중복이 제거된 {@code long[]} 배열을 감싼 변경할 수 없는 목록.
+ *
+ * @see SortedNumberList
+ */
+final class SortedLongList extends SortedNumberList<Long> {
+
+    private static final long serialVersionUID = 2L;
+
+    private final long[] values;
+
+    private SortedLongList(long[] values, boolean containsNull) {
+        super(containsNull);
+        this.values = values;
+    }
+
+    static SortedLongList of(Collection<Long> values) {
+        if (values instanceof SortedLongList sorted) {
+            return sorted;
+        }
+        long[] array = new long[values.size()];
+        int size = 0;
+        for (Long value : values) {
+            if (value != null) {
+                array[size++] = value;
+            }
+        }
+        return new SortedLongList(distinct(array, size), containsNull(values));
+    }
+
+    static SortedLongList of(long... values) {
+        return new SortedLongList(distinct(values.clone(), values.length), false);
+    }
+
+    boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    long[] toPrimitiveArray() {
+        return values.clone();
+    }
+
+    @Override
+    int valueCount() {
+        return values.length;
+    }
+
+    @Override
+    Long value(int index) {
+        return values[index];
+    }
+
+    @Override
+    int valueHashCode(int index) {
+        return Long.hashCode(values[index]);
+    }
+
+    @Override
+    boolean containsValue(Object value) {
+        return value instanceof Long number && contains(number.longValue());
+    }
+
+    @Override
+    boolean valuesEqual(SortedNumberList<?> other) {
+        return Arrays.equals(values, ((SortedLongList) other).values);
+    }
+}
@@ -0,0 +1,131 @@
+package com.nalutbae.jpa.criteria.filter;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * 정렬되고 중복이 제거된 기본형 배열을 감싼 변경할 수 없는 정수 목록.
+ * 값을 박싱하지 않고 보관하며, {@link #contains(Object)}는 이진 탐색으로 확인합니다.
+ * SQL에서 {@code null}과 같은 값은 없으므로 null은 배열에 넣지 않고 포함 여부만 기록하며, 목록의 맨 앞에 나타납니다.
+ * 정렬과 중복 제거, 목록의 동작은 이 클래스에 있으며, 하위 클래스는 배열의 유형에 맞는 접근만 정의합니다.
+ *
+ * @param <T> 요소의 유형
+ */
+abstract class SortedNumberList<T extends Number> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean containsNull;
+
+    SortedNumberList(boolean containsNull) {
+        this.containsNull = containsNull;
+    }
+
+    /**
+     * 배열의 앞쪽 {@code size}개 값을 정렬하고 중복을 제거합니다. 배열은 변경됩니다.
+     *
+     * @return 정렬되고 중복이 제거된 배열
+     */
+    static int[] distinct(int[] array, int size) {
+        Arrays.sort(array, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || array[i] != array[distinct - 1]) {
+                array[distinct++] = array[i];
+            }
+        }
+        return distinct == array.length ? array : Arrays.copyOf(array, distinct);
+    }
+
+    /**
+     * @see #distinct(int[], int)
+     */
+    static long[] distinct(long[] array, int size) {
+        Arrays.sort(array, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || array[i] != array[distinct - 1]) {
+                array[distinct++] = array[i];
+            }
+        }
+        return distinct == array.length ? array : Arrays.copyOf(array, distinct);
+    }
+
+    static boolean containsNull(Collection<?> values) {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 배열에 보관한 값의 수, null은 포함하지 않습니다.
+     */
+    abstract int valueCount();
+
+    abstract T value(int index);
+
+    /**
+     * @return 요소 유형의 {@code hashCode()}와 같은 값
+     */
+    abstract int valueHashCode(int index);
+
+    /**
+     * @param value 요소 유형의 값
+     * @return 배열에서 이진 탐색으로 찾으면 {@code true}
+     */
+    abstract boolean containsValue(Object value);
+
+    /**
+     * @param other 같은 클래스의 목록
+     * @return 배열의 값이 모두 같으면 {@code true}
+     */
+    abstract boolean valuesEqual(SortedNumberList<?> other);
+
+    @Override
+    public T get(int index) {
+        if (containsNull) {
+            return index == 0 ? null : value(index - 1);
+        }
+        return value(index);
+    }
+
+    @Override
+    public int size() {
+        return valueCount() + (containsNull ? 1 : 0);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return containsNull;
+        }
+        return containsValue(o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o != null && o.getClass() == getClass()) {
+            SortedNumberList<?> that = (SortedNumberList<?>) o;
+            return containsNull == that.containsNull && valuesEqual(that);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * {@link java.util.List#hashCode()}와 같은 값을 박싱 없이 계산합니다.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = containsNull ? 31 : 1;
+        for (int i = 0, count = valueCount(); i < count; i++) {
+            hashCode = 31 * hashCode + valueHashCode(i);
+        }
+        return hashCode;
+    }
+}
@@ -14,7 +14,13 @@ import java.util.Objects;
  * fieldName.notIn='something','other'
  * fieldName.contains='thing'
  * fieldName.doesNotContain='thing'
+ * fieldName.startsWith='some'
+ * fieldName.endsWith='thing'
+ * fieldName.fullText='some thing'
  * </code>
+ * contains, doesNotContain, startsWith, endsWith는 대소문자를 구분하지 않습니다.
+ * startsWith는 인덱스를 사용할 수 있으므로 자동 완성처럼 앞부분으로 검색하는 경우 contains 대신 사용하세요.
+ * fullText는 데이터베이스의 전문 검색 기능으로 변환됩니다.
  */
 public class StringFilter extends Filter<String> {
 
@@ -22,6 +28,9 @@ public class StringFilter extends Filter<String> {
 
     private String contains;
     private String doesNotContain;
+    private String startsWith;
+    private String endsWith;
+    private String fullText;
 
     public StringFilter() {
     }
@@ -30,6 +39,9 @@ public class StringFilter extends Filter<String> {
         super(filter);
         contains = filter.contains;
         doesNotContain = filter.doesNotContain;
+        startsWith = filter.startsWith;
+        endsWith = filter.endsWith;
+        fullText = filter.fullText;
     }
 
     /** {@inheritDoc} */
@@ -56,6 +68,33 @@ public class StringFilter extends Filter<String> {
         return this;
     }
 
+    public String getStartsWith() {
+        return startsWith;
+    }
+
+    public StringFilter setStartsWith(String startsWith) {
+        this.startsWith = startsWith;
+        return this;
+    }
+
+    public String getEndsWith() {
+        return endsWith;
+    }
+
+    public StringFilter setEndsWith(String endsWith) {
+        this.endsWith = endsWith;
+        return this;
+    }
+
+    public String getFullText() {
+        return fullText;
+    }
+
+    public StringFilter setFullText(String fullText) {
+        this.fullText = fullText;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object o) {
@@ -70,13 +109,16 @@ public class StringFilter extends Filter<String> {
         }
         StringFilter that = (StringFilter) o;
         return Objects.equals(contains, that.contains) &&
-            Objects.equals(doesNotContain, that.doesNotContain);
+            Objects.equals(doesNotContain, that.doesNotContain) &&
+            Objects.equals(startsWith, that.startsWith) &&
+            Objects.equals(endsWith, that.endsWith) &&
+            Objects.equals(fullText, that.fullText);
     }
 
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), contains, doesNotContain);
+        return Objects.hash(super.hashCode(), contains, doesNotContain, startsWith, endsWith, fullText);
     }
 
     /** {@inheritDoc} */
@@ -89,7 +131,10 @@ public class StringFilter extends Filter<String> {
             + (getIn() != null ? "in=" + getIn() + ", " : "")
             + (getNotIn() != null ? "notIn=" + getNotIn() + ", " : "")
             + (getContains() != null ? "contains=" + getContains() + ", " : "")
-            + (getDoesNotContain() != null ? "doesNotContain=" + getDoesNotContain() : "")
+            + (getDoesNotContain() != null ? "doesNotContain=" + getDoesNotContain() + ", " : "")
+            + (getStartsWith() != null ? "startsWith=" + getStartsWith() + ", " : "")
+            + (getEndsWith() != null ? "endsWith=" + getEndsWith() + ", " : "")
+            + (getFullText() != null ? "fullText=" + getFullText() : "")
             + "]";
     }
 
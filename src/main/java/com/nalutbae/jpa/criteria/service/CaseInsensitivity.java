@@ -0,0 +1,104 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+
+import java.util.Locale;
+
+/**
+ * {@link com.nalutbae.jpa.criteria.filter.StringFilter}의 startsWith, endsWith 조건에서
+ * 대소문자를 구분하지 않고 비교하는 방법.
+ * 조건이 인덱스를 사용하려면 데이터베이스의 인덱스 구성과 같은 방법을 선택해야 합니다.
+ *
+ * @see QueryService#getCaseInsensitivity()
+ */
+public enum CaseInsensitivity {
+
+	/**
+	 * {@code upper(column) like 'VALUE%'}. {@code upper(column)} 함수 인덱스를 사용할 수 있습니다.
+	 */
+	UPPER {
+		@Override
+		public Expression<String> column(Expression<String> column, CriteriaBuilder builder) {
+			return builder.upper(column);
+		}
+
+		@Override
+		public String value(String value) {
+			return value.toUpperCase(Locale.ROOT);
+		}
+	},
+
+	/**
+	 * {@code lower(column) like 'value%'}. {@code lower(column)} 함수 인덱스를 사용할 수 있습니다.
+	 */
+	LOWER {
+		@Override
+		public Expression<String> column(Expression<String> column, CriteriaBuilder builder) {
+			return builder.lower(column);
+		}
+
+		@Override
+		public String value(String value) {
+			return value.toLowerCase(Locale.ROOT);
+		}
+	},
+
+	/**
+	 * {@code column like 'VALUE%'}. 대문자로 정규화된 값을 저장하는 별도의 컬럼(shadow column)에 사용합니다.
+	 */
+	UPPER_NORMALIZED_COLUMN {
+		@Override
+		public Expression<String> column(Expression<String> column, CriteriaBuilder builder) {
+			return column;
+		}
+
+		@Override
+		public String value(String value) {
+			return value.toUpperCase(Locale.ROOT);
+		}
+	},
+
+	/**
+	 * {@code column like 'value%'}. 소문자로 정규화된 값을 저장하는 별도의 컬럼(shadow column)에 사용합니다.
+	 */
+	LOWER_NORMALIZED_COLUMN {
+		@Override
+		public Expression<String> column(Expression<String> column, CriteriaBuilder builder) {
+			return column;
+		}
+
+		@Override
+		public String value(String value) {
+			return value.toLowerCase(Locale.ROOT);
+		}
+	},
+
+	/**
+	 * {@code column like 'Value%'}. 컬럼이나 데이터베이스의 collation이 대소문자를 구분하지 않는 경우에 사용합니다.
+	 */
+	COLLATION {
+		@Override
+		public Expression<String> column(Expression<String> column, CriteriaBuilder builder) {
+			return column;
+		}
+
+		@Override
+		public String value(String value) {
+			return value;
+		}
+	};
+
+	/**
+	 * @param column  비교할 컬럼
+	 * @param builder 식을 만들 {@link CriteriaBuilder}
+	 * @return 비교에 사용할 컬럼 식
+	 */
+	public abstract Expression<String> column(Expression<String> column, CriteriaBuilder builder);
+
+	/**
+	 * @param value 사용자가 입력한 값
+	 * @return 비교에 사용할 값
+	 */
+	public abstract String value(String value);
+}
@@ -0,0 +1,45 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * 일정 개수의 항목을 내보낼 때마다 영속성 컨텍스트를 반영(flush)한 뒤 비우는 {@link Spliterator}.
+ * 다음 행을 읽기 직전에 비우므로 처리 중인 엔티티는 분리(detach)되지 않지만,
+ * 같은 영속성 컨텍스트의 다른 엔티티도 모두 분리됩니다.
+ *
+ * @param <T> 항목의 유형
+ */
+final class ClearingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+	private final Spliterator<T> delegate;
+
+	private final EntityManager entityManager;
+
+	private final int clearInterval;
+
+	private long count;
+
+	ClearingSpliterator(Spliterator<T> delegate, EntityManager entityManager, int clearInterval) {
+		super(delegate.estimateSize(), delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+		this.delegate = delegate;
+		this.entityManager = entityManager;
+		this.clearInterval = clearInterval;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (count > 0 && count % clearInterval == 0) {
+			entityManager.flush();
+			entityManager.clear();
+		}
+		boolean advanced = delegate.tryAdvance(action);
+		if (advanced) {
+			count++;
+		}
+		return advanced;
+	}
+}
@@ -0,0 +1,130 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 내용 조회와 count 쿼리를 동시에 실행하여 {@link Page}를 만드는 도우미.
+ * 두 쿼리를 차례로 실행하면 응답 시간이 두 쿼리 시간의 합이 되지만, 동시에 실행하면 더 오래 걸리는 쪽의 시간이 됩니다.
+ * <p>
+ * 각 쿼리는 {@code executor}의 스레드에서 새 읽기 전용 트랜잭션으로 실행되므로, {@link CriteriaExecutor}는
+ * Spring이 주입한 (트랜잭션에 따라 바뀌는) 공유 {@code EntityManager}로 만들어야 합니다.
+ * 요청 하나가 데이터베이스 연결을 동시에 두 개 사용하므로 연결 풀 크기를 함께 고려하세요.
+ * <p>
+ * 페이지가 반환될 때는 내용을 조회한 트랜잭션이 이미 끝났으므로, 엔티티는 분리(detach)된 상태이며
+ * 지연 로딩 연관에 접근하면 {@code LazyInitializationException}이 발생합니다.
+ * 화면에 필요한 컬럼만 조회하는 {@link #findPage(Specification, Class, Pageable, List)}를 사용하세요.
+ * <p>
+ * Java 21 이상에서는 {@code Executors.newVirtualThreadPerTaskExecutor()}를, 그 이전에는 크기가 제한된 스레드 풀을 사용합니다.
+ * <pre>
+ *      ConcurrentPageExecutor&lt;Example&gt; pageExecutor =
+ *              new ConcurrentPageExecutor&lt;&gt;(new CriteriaExecutor&lt;&gt;(entityManager, Example.class), transactionManager, executor);
+ *      Page&lt;ExampleSummary&gt; page = pageExecutor.findPage(createSpecification(criteria), ExampleSummary.class, pageable,
+ *              List.of(Example_.id, Example_.stringField));
+ * </pre>
+ * 내용 조회가 실패하면 아직 시작하지 않은 count 쿼리는 건너뛰지만, 이미 실행 중인 count 쿼리는 중단되지 않고 끝까지 실행됩니다.
+ * 내용 조회 결과로 전체 건수를 알 수 있는 경우(예: 첫 페이지가 페이지 크기보다 작은 경우)에도 count 쿼리는 이미 실행 중이므로,
+ * 대부분의 요청이 한 페이지에 끝나는 목록에는 {@link CriteriaExecutor#findPage(Specification, Pageable)}가 더 적합합니다.
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ */
+public class ConcurrentPageExecutor<ENTITY> {
+
+	private final CriteriaExecutor<ENTITY> criteriaExecutor;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Executor executor;
+
+	/**
+	 * @param criteriaExecutor   쿼리를 실행할 도우미
+	 * @param transactionManager 각 쿼리의 트랜잭션을 시작할 트랜잭션 관리자
+	 * @param executor           쿼리를 실행할 스레드
+	 */
+	public ConcurrentPageExecutor(CriteriaExecutor<ENTITY> criteriaExecutor, PlatformTransactionManager transactionManager,
+								  Executor executor) {
+		this.criteriaExecutor = criteriaExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.executor = executor;
+	}
+
+	/**
+	 * 한 페이지와 전체 건수를 동시에 조회합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param pageable      페이지 정보
+	 * @return 조회한 페이지
+	 * @see CriteriaExecutor#findPage(Specification, Pageable)
+	 */
+	public Page<ENTITY> findPage(Specification<ENTITY> specification, Pageable pageable) {
+		return findPage(specification, pageable, () -> criteriaExecutor.findContent(specification, pageable));
+	}
+
+	/**
+	 * 선택한 속성만 한 페이지 조회하여 DTO 또는 record로 반환하며, 전체 건수를 동시에 조회합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param resultClass   결과 클래스
+	 * @param pageable      페이지 정보
+	 * @param attributes    조회할 속성
+	 * @param <R>           결과의 유형
+	 * @return 조회한 페이지
+	 * @see CriteriaExecutor#findPage(Specification, Class, Pageable, List)
+	 */
+	public <R> Page<R> findPage(Specification<ENTITY> specification, Class<R> resultClass, Pageable pageable,
+								List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		return findPage(specification, pageable,
+				() -> criteriaExecutor.findContent(specification, resultClass, pageable, attributes));
+	}
+
+	private <R> Page<R> findPage(Specification<ENTITY> specification, Pageable pageable, Supplier<List<R>> contentQuery) {
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(transactionTemplate.execute(status -> contentQuery.get()));
+		}
+		CompletableFuture<Long> count = supplyAsync(() -> criteriaExecutor.count(specification));
+		CompletableFuture<List<R>> content = supplyAsync(contentQuery);
+		try {
+			List<R> rows = join(content);
+			return PageableExecutionUtils.getPage(rows, pageable, () -> join(count));
+		} finally {
+			// 아직 시작하지 않은 count 쿼리만 건너뜁니다. 이미 실행 중인 쿼리는 중단되지 않고 끝까지 실행됩니다.
+			count.cancel(false);
+		}
+	}
+
+	private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+		return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> query.get()), executor);
+	}
+
+	/**
+	 * 쿼리 스레드에서 발생한 예외를 {@link CompletionException}으로 감싸지 않고 그대로 던집니다.
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 조회 기준이 어떤 행도 만족할 수 없는 조합인지 쿼리를 실행하기 전에 검사합니다.
+ * {@link QueryService}가 실제로 적용하는 연산자만 검사하므로, 우선순위에 밀려 적용되지 않는 연산자는 판단에 사용하지 않습니다.
+ * <ul>
+ *     <li>비어 있거나 null 값만 있는 in 목록</li>
+ *     <li>null 값이 포함된 notIn 목록</li>
+ *     <li>빈 문자열에 대한 doesNotContain</li>
+ *     <li>{@link NormalizedRange}가 빈 구간으로 판단하는 범위 조건</li>
+ * </ul>
+ * 이 판단은 필터를 {@link QueryService#buildSpecification(Filter, java.util.function.Function)}처럼
+ * 하나의 컬럼에 대한 조건으로 적용하고, 다른 조건과 and로 결합한다고 가정합니다.
+ * {@link QueryService#buildExistsSpecification(Filter, jakarta.persistence.metamodel.PluralAttribute, java.util.function.Function)}로
+ * 적용하는 필터는 notIn, doesNotContain이 {@code NOT EXISTS}가 되어 원소가 없는 행에서 참이 될 수 있고,
+ * or로 결합하거나 적용하지 않는 필터는 조회 기준 전체를 거짓으로 만들지 않으므로,
+ * 이런 필드는 {@link #isUnsatisfiable(Criteria, Collection)}의 제외할 필드로 지정해야 합니다.
+ */
+public final class CriteriaAnalyzer {
+
+	private CriteriaAnalyzer() {
+	}
+
+	/**
+	 * 조회 기준의 필터 중 하나라도 만족할 수 없으면 조회 기준 전체가 만족할 수 없다고 판단합니다.
+	 * 필터는 조회 기준 클래스의 static, transient가 아닌 {@link Filter} 유형 필드에서 찾습니다.
+	 *
+	 * @param criteria 검사할 조회 기준
+	 * @return 어떤 행도 만족할 수 없으면 {@code true}
+	 * @see #isUnsatisfiable(Criteria, Collection)
+	 */
+	public static boolean isUnsatisfiable(Criteria criteria) {
+		return isUnsatisfiable(criteria, Set.of());
+	}
+
+	/**
+	 * 조회 기준의 필터 중 제외할 필드가 아닌 필터 하나라도 만족할 수 없으면 조회 기준 전체가 만족할 수 없다고 판단합니다.
+	 * {@code EXISTS}, {@code NOT EXISTS} 서브쿼리로 적용하거나, 다른 조건과 or로 결합하거나, 적용하지 않는 필터의 필드는
+	 * 하나의 컬럼에 대한 조건과 의미가 다르므로 제외해야 합니다.
+	 *
+	 * @param criteria      검사할 조회 기준
+	 * @param ignoredFields 검사하지 않을 조회 기준 필드의 이름
+	 * @return 어떤 행도 만족할 수 없으면 {@code true}
+	 */
+	public static boolean isUnsatisfiable(Criteria criteria, Collection<String> ignoredFields) {
+		if (criteria == null) {
+			return false;
+		}
+		for (Field field : CriteriaFields.of(criteria.getClass())) {
+			if (Filter.class.isAssignableFrom(field.getType()) && !ignoredFields.contains(field.getName())
+					&& isUnsatisfiable((Filter<?>) CriteriaFields.get(field, criteria))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 필터가 만든 조건을 어떤 값도 만족할 수 없는지 검사합니다.
+	 *
+	 * @param filter 검사할 필터
+	 * @return 어떤 값도 만족할 수 없으면 {@code true}
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static boolean isUnsatisfiable(Filter<?> filter) {
+		if (filter == null) {
+			return false;
+		}
+		PredicatePlan.Kind kind = PredicatePlan.Kind.of(filter);
+		PredicatePlan plan = PredicatePlan.of(kind, FilterShape.of(filter));
+		for (FilterOperator operator : plan.getOperators()) {
+			switch (operator) {
+				case IN -> {
+					if (isEmptyOrNulls(filter.getIn())) {
+						return true;
+					}
+				}
+				case NOT_IN -> {
+					if (containsNull(filter.getNotIn())) {
+						return true;
+					}
+				}
+				case DOES_NOT_CONTAIN -> {
+					if (((StringFilter) filter).getDoesNotContain().isEmpty()) {
+						return true;
+					}
+				}
+				default -> {
+				}
+			}
+		}
+		return kind == PredicatePlan.Kind.RANGE && filter.getEquals() == null && filter.getIn() == null
+				&& NormalizedRange.of((RangeFilter) filter).isEmpty();
+	}
+
+	private static boolean isEmptyOrNulls(Collection<?> values) {
+		for (Object value : values) {
+			if (value != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean containsNull(Collection<?> values) {
+		for (Object value : values) {
+			if (value == null) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
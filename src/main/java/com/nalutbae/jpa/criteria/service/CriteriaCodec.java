@@ -0,0 +1,608 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 조회 기준과 필터를 위한 간결하고 정규화된 바이너리 형식과 64비트 지문(fingerprint)
+ * <p>
+ * Java 직렬화 대신 노드 간에 조회 기준을 전달하거나(분산 캐시, 작업 큐) 캐시 키로 사용할 때 씁니다.
+ * 같은 의미의 조회 기준은 항상 같은 바이트로 인코딩됩니다.
+ * <ul>
+ *     <li>in, notIn 목록은 순서와 중복을 무시합니다.</li>
+ *     <li>{@link BigDecimal}은 {@code 1.0}과 {@code 1.00}을 같은 값으로 인코딩합니다.</li>
+ *     <li>연산자가 하나도 지정되지 않은 필터는 {@code null}과 같게 인코딩합니다.</li>
+ *     <li>조회 기준의 필드는 선언 순서가 아닌 이름 순서로 기록합니다.</li>
+ * </ul>
+ * 필터의 실제 클래스가 필드에 선언된 유형과 다르면(예: {@code Filter<Long>} 필드의 {@code LongArrayFilter}) 클래스 이름을 함께 기록하여
+ * 디코딩할 때 같은 클래스로 복원합니다. {@link #encode(Filter)}는 항상 필터의 클래스 이름을 기록합니다.
+ * 필터 값으로 {@link String}, {@link Boolean}, 숫자 유형, {@link BigDecimal}, {@link UUID}, 날짜/시간 유형과 enum을 지원합니다.
+ * 디코딩할 때 조회 기준과 필터 클래스에는 인자가 없는 생성자가 있어야 합니다.
+ */
+public final class CriteriaCodec {
+
+	private static final byte VERSION = 2;
+
+	private static final FilterOperator[] OPERATORS = FilterOperator.values();
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte FALSE = 2;
+	private static final byte TRUE = 3;
+	private static final byte LONG = 4;
+	private static final byte INTEGER = 5;
+	private static final byte SHORT = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte FLOAT = 8;
+	private static final byte BIG_DECIMAL = 9;
+	private static final byte UUID_VALUE = 10;
+	private static final byte INSTANT = 11;
+	private static final byte LOCAL_DATE = 12;
+	private static final byte LOCAL_DATE_TIME = 13;
+	private static final byte ZONED_DATE_TIME = 14;
+	private static final byte DURATION = 15;
+	private static final byte ENUM = 16;
+
+	private CriteriaCodec() {
+	}
+
+	/**
+	 * @param criteria 인코딩할 조회 기준
+	 * @return 조회 기준 클래스 이름과 {@code null}이 아닌 필드 값을 담은 바이트 배열
+	 */
+	public static byte[] encode(Criteria criteria) {
+		Output out = new Output();
+		out.writeByte(VERSION);
+		writeCriteria(out, criteria);
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param bytes        {@link #encode(Criteria)}로 인코딩한 바이트 배열
+	 * @param criteriaType 디코딩할 조회 기준 클래스
+	 * @param <C>          조회 기준의 유형
+	 * @return 디코딩한 조회 기준
+	 * @throws IllegalArgumentException 형식이 잘못되었거나 다른 조회 기준 클래스를 인코딩한 경우
+	 */
+	public static <C extends Criteria> C decode(byte[] bytes, Class<C> criteriaType) {
+		Input in = new Input(bytes);
+		readVersion(in);
+		String typeName = in.readString();
+		if (!typeName.equals(criteriaType.getName())) {
+			throw new IllegalArgumentException("Encoded criteria is " + typeName + ", not " + criteriaType.getName());
+		}
+		C criteria = instantiate(criteriaType);
+		Field[] fields = CriteriaFields.of(criteriaType);
+		int count = in.readVarInt();
+		for (int i = 0; i < count; i++) {
+			String name = in.readString();
+			Field field = findField(fields, name, criteriaType);
+			Object value = Filter.class.isAssignableFrom(field.getType())
+					? readFilter(in, field.getType().asSubclass(Filter.class))
+					: readValue(in);
+			try {
+				field.set(criteria, value);
+			} catch (IllegalAccessException | IllegalArgumentException e) {
+				throw new IllegalArgumentException("Cannot set criteria field " + field, e);
+			}
+		}
+		in.requireEnd();
+		return criteria;
+	}
+
+	/**
+	 * @param filter 인코딩할 필터
+	 * @return 지정된 연산자와 값을 담은 바이트 배열
+	 */
+	public static byte[] encode(Filter<?> filter) {
+		Output out = new Output();
+		out.writeByte(VERSION);
+		writeFilter(out, filter, null);
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param bytes      {@link #encode(Filter)}로 인코딩한 바이트 배열
+	 * @param filterType 디코딩할 필터 클래스, 인코딩된 필터의 클래스이거나 그 상위 클래스여야 합니다.
+	 * @param <F>        필터의 유형
+	 * @return 인코딩된 필터와 같은 클래스로 디코딩한 필터
+	 * @throws IllegalArgumentException 형식이 잘못되었거나, 인코딩된 필터가 {@code filterType}의 인스턴스가 아니거나,
+	 *                                  필터 클래스가 지원하지 않는 연산자가 포함된 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F extends Filter<?>> F decodeFilter(byte[] bytes, Class<F> filterType) {
+		Input in = new Input(bytes);
+		readVersion(in);
+		F filter = (F) readFilter(in, filterType);
+		in.requireEnd();
+		return filter;
+	}
+
+	/**
+	 * 조회 기준의 64비트 지문을 계산합니다. 정규화된 인코딩으로 계산하므로 같은 의미의 조회 기준은 같은 지문을 가집니다.
+	 * 지문은 JVM이나 실행 환경과 관계없이 같으므로 분산 캐시의 키로 사용할 수 있습니다.
+	 *
+	 * @param criteria 지문을 계산할 조회 기준
+	 * @return 64비트 지문
+	 */
+	public static long fingerprint(Criteria criteria) {
+		Output out = new Output();
+		writeCriteria(out, criteria);
+		return out.fingerprint();
+	}
+
+	/**
+	 * @param filter 지문을 계산할 필터
+	 * @return 64비트 지문
+	 * @see #fingerprint(Criteria)
+	 */
+	public static long fingerprint(Filter<?> filter) {
+		Output out = new Output();
+		writeFilter(out, filter, null);
+		return out.fingerprint();
+	}
+
+	private static void writeCriteria(Output out, Criteria criteria) {
+		out.writeString(criteria.getClass().getName());
+		Field[] fields = CriteriaFields.of(criteria.getClass());
+		Object[] values = new Object[fields.length];
+		int count = 0;
+		for (int i = 0; i < fields.length; i++) {
+			Object value = CriteriaFields.get(fields[i], criteria);
+			if (value instanceof Filter<?> filter && FilterShape.of(filter).isEmpty()) {
+				value = null;
+			}
+			if (value != null) {
+				values[i] = value;
+				count++;
+			}
+		}
+		out.writeVarInt(count);
+		for (int i = 0; i < fields.length; i++) {
+			if (values[i] != null) {
+				out.writeString(fields[i].getName());
+				if (values[i] instanceof Filter<?> filter) {
+					writeFilter(out, filter, fields[i].getType());
+				} else {
+					writeValue(out, values[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param declaredType 디코딩할 때 사용할 필터 클래스, 필터의 실제 클래스와 같으면 클래스 이름 대신 빈 문자열을 기록합니다.
+	 */
+	private static void writeFilter(Output out, Filter<?> filter, Class<?> declaredType) {
+		out.writeString(filter.getClass() == declaredType ? "" : filter.getClass().getName());
+		FilterShape shape = FilterShape.of(filter);
+		int mask = 0;
+		for (FilterOperator operator : OPERATORS) {
+			if (shape.contains(operator)) {
+				mask |= 1 << operator.ordinal();
+			}
+		}
+		out.writeVarInt(mask);
+		for (FilterOperator operator : OPERATORS) {
+			if (!shape.contains(operator)) {
+				continue;
+			}
+			switch (operator) {
+				case EXISTS -> out.writeByte(filter.getExists() ? TRUE : FALSE);
+				case IN -> writeValues(out, filter.getIn());
+				case NOT_IN -> writeValues(out, filter.getNotIn());
+				default -> writeValue(out, FilterOperands.get(filter, operator));
+			}
+		}
+	}
+
+	/**
+	 * 각 값을 따로 인코딩한 뒤 바이트 순서로 정렬하고 중복을 제거하여, 목록의 순서와 중복에 관계없이 같은 결과를 얻습니다.
+	 */
+	private static void writeValues(Output out, List<?> values) {
+		byte[][] encoded = new byte[values.size()][];
+		Output value = new Output();
+		for (int i = 0; i < encoded.length; i++) {
+			value.reset();
+			writeValue(value, values.get(i));
+			encoded[i] = value.toByteArray();
+		}
+		Arrays.sort(encoded, Arrays::compareUnsigned);
+		int distinct = 0;
+		for (int i = 0; i < encoded.length; i++) {
+			if (i == 0 || !Arrays.equals(encoded[i], encoded[i - 1])) {
+				encoded[distinct++] = encoded[i];
+			}
+		}
+		out.writeVarInt(distinct);
+		for (int i = 0; i < distinct; i++) {
+			out.writeBytes(encoded[i]);
+		}
+	}
+
+	private static void writeValue(Output out, Object value) {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String string) {
+			out.writeByte(STRING);
+			out.writeString(string);
+		} else if (value instanceof Boolean bool) {
+			out.writeByte(bool ? TRUE : FALSE);
+		} else if (value instanceof Long number) {
+			out.writeByte(LONG);
+			out.writeVarLong(number);
+		} else if (value instanceof Integer number) {
+			out.writeByte(INTEGER);
+			out.writeVarLong(number);
+		} else if (value instanceof Short number) {
+			out.writeByte(SHORT);
+			out.writeVarLong(number);
+		} else if (value instanceof Double number) {
+			out.writeByte(DOUBLE);
+			out.writeFixedLong(Double.doubleToLongBits(number));
+		} else if (value instanceof Float number) {
+			out.writeByte(FLOAT);
+			out.writeFixedLong(Float.floatToIntBits(number));
+		} else if (value instanceof BigDecimal number) {
+			BigDecimal canonical = number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+			out.writeByte(BIG_DECIMAL);
+			out.writeVarLong(canonical.scale());
+			byte[] unscaled = canonical.unscaledValue().toByteArray();
+			out.writeVarInt(unscaled.length);
+			out.writeBytes(unscaled);
+		} else if (value instanceof UUID uuid) {
+			out.writeByte(UUID_VALUE);
+			out.writeFixedLong(uuid.getMostSignificantBits());
+			out.writeFixedLong(uuid.getLeastSignificantBits());
+		} else if (value instanceof Instant instant) {
+			out.writeByte(INSTANT);
+			out.writeVarLong(instant.getEpochSecond());
+			out.writeVarInt(instant.getNano());
+		} else if (value instanceof LocalDate date) {
+			out.writeByte(LOCAL_DATE);
+			out.writeVarLong(date.toEpochDay());
+		} else if (value instanceof LocalDateTime dateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeVarLong(dateTime.toLocalDate().toEpochDay());
+			out.writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+		} else if (value instanceof ZonedDateTime dateTime) {
+			out.writeByte(ZONED_DATE_TIME);
+			out.writeVarLong(dateTime.toEpochSecond());
+			out.writeVarInt(dateTime.getNano());
+			out.writeString(dateTime.getZone().getId());
+		} else if (value instanceof Duration duration) {
+			out.writeByte(DURATION);
+			out.writeVarLong(duration.getSeconds());
+			out.writeVarInt(duration.getNano());
+		} else if (value instanceof Enum<?> constant) {
+			out.writeByte(ENUM);
+			out.writeString(constant.getDeclaringClass().getName());
+			out.writeString(constant.name());
+		} else {
+			throw new IllegalArgumentException("Unsupported criteria value type: " + value.getClass().getName());
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Filter<?> readFilter(Input in, Class<? extends Filter> declaredType) {
+		String typeName = in.readString();
+		Class<? extends Filter> filterType = typeName.isEmpty() ? declaredType : filterType(typeName, declaredType);
+		int mask = in.readVarInt();
+		Filter filter = instantiate(filterType);
+		for (FilterOperator operator : OPERATORS) {
+			if ((mask & (1 << operator.ordinal())) == 0) {
+				continue;
+			}
+			switch (operator) {
+				case EQUALS -> filter.setEquals(readValue(in));
+				case NOT_EQUALS -> filter.setNotEquals(readValue(in));
+				case EXISTS -> filter.setExists((Boolean) readValue(in));
+				case IN -> filter.setIn(readValues(in));
+				case NOT_IN -> filter.setNotIn(readValues(in));
+				case CONTAINS -> stringFilter(filter, operator).setContains((String) readValue(in));
+				case DOES_NOT_CONTAIN -> stringFilter(filter, operator).setDoesNotContain((String) readValue(in));
+				case STARTS_WITH -> stringFilter(filter, operator).setStartsWith((String) readValue(in));
+				case ENDS_WITH -> stringFilter(filter, operator).setEndsWith((String) readValue(in));
+				case FULL_TEXT -> stringFilter(filter, operator).setFullText((String) readValue(in));
+				case GREATER_THAN -> rangeFilter(filter, operator).setGreaterThan((Comparable) readValue(in));
+				case GREATER_THAN_OR_EQUAL -> rangeFilter(filter, operator).setGreaterThanOrEqual((Comparable) readValue(in));
+				case LESS_THAN -> rangeFilter(filter, operator).setLessThan((Comparable) readValue(in));
+				case LESS_THAN_OR_EQUAL -> rangeFilter(filter, operator).setLessThanOrEqual((Comparable) readValue(in));
+			}
+		}
+		return filter;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Class<? extends Filter> filterType(String typeName, Class<? extends Filter> declaredType) {
+		Class<?> type;
+		try {
+			type = Class.forName(typeName, false, CriteriaCodec.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException("Unknown filter type " + typeName, e);
+		}
+		if (!declaredType.isAssignableFrom(type)) {
+			throw new IllegalArgumentException("Encoded filter is " + typeName + ", not " + declaredType.getName());
+		}
+		return type.asSubclass(Filter.class);
+	}
+
+	private static StringFilter stringFilter(Filter<?> filter, FilterOperator operator) {
+		if (filter instanceof StringFilter stringFilter) {
+			return stringFilter;
+		}
+		throw new IllegalArgumentException(filter.getClass().getName() + " does not support " + operator);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static RangeFilter rangeFilter(Filter<?> filter, FilterOperator operator) {
+		if (filter instanceof RangeFilter<?> rangeFilter) {
+			return rangeFilter;
+		}
+		throw new IllegalArgumentException(filter.getClass().getName() + " does not support " + operator);
+	}
+
+	private static List<Object> readValues(Input in) {
+		int size = in.readVarInt();
+		List<Object> values = new ArrayList<>(Math.min(size, 1024));
+		for (int i = 0; i < size; i++) {
+			values.add(readValue(in));
+		}
+		return values;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object readValue(Input in) {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case NULL -> null;
+			case STRING -> in.readString();
+			case FALSE -> Boolean.FALSE;
+			case TRUE -> Boolean.TRUE;
+			case LONG -> in.readVarLong();
+			case INTEGER -> Math.toIntExact(in.readVarLong());
+			case SHORT -> (short) in.readVarLong();
+			case DOUBLE -> Double.longBitsToDouble(in.readFixedLong());
+			case FLOAT -> Float.intBitsToFloat((int) in.readFixedLong());
+			case BIG_DECIMAL -> {
+				int scale = Math.toIntExact(in.readVarLong());
+				yield new BigDecimal(new BigInteger(in.readBytes(in.readVarInt())), scale);
+			}
+			case UUID_VALUE -> new UUID(in.readFixedLong(), in.readFixedLong());
+			case INSTANT -> Instant.ofEpochSecond(in.readVarLong(), in.readVarInt());
+			case LOCAL_DATE -> LocalDate.ofEpochDay(in.readVarLong());
+			case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(in.readVarLong()),
+					LocalTime.ofNanoOfDay(in.readVarLong()));
+			case ZONED_DATE_TIME -> {
+				Instant instant = Instant.ofEpochSecond(in.readVarLong(), in.readVarInt());
+				yield ZonedDateTime.ofInstant(instant, ZoneId.of(in.readString()));
+			}
+			case DURATION -> Duration.ofSeconds(in.readVarLong(), in.readVarInt());
+			case ENUM -> {
+				String typeName = in.readString();
+				Class<?> type;
+				try {
+					type = Class.forName(typeName, false, CriteriaCodec.class.getClassLoader());
+				} catch (ClassNotFoundException e) {
+					throw new IllegalArgumentException("Unknown enum type " + typeName, e);
+				}
+				if (!type.isEnum()) {
+					throw new IllegalArgumentException(typeName + " is not an enum");
+				}
+				yield Enum.valueOf((Class) type, in.readString());
+			}
+			default -> throw new IllegalArgumentException("Unknown value tag " + tag);
+		};
+	}
+
+	private static void readVersion(Input in) {
+		byte version = in.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported criteria encoding version " + version);
+		}
+	}
+
+	private static Field findField(Field[] fields, String name, Class<?> criteriaType) {
+		for (Field field : fields) {
+			if (field.getName().equals(name)) {
+				return field;
+			}
+		}
+		throw new IllegalArgumentException(criteriaType.getName() + " has no field " + name);
+	}
+
+	private static <T> T instantiate(Class<T> type) {
+		try {
+			var constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor.newInstance();
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalArgumentException("Cannot instantiate " + type.getName()
+					+ ", a no-argument constructor is required", e);
+		}
+	}
+
+	private static final class Output {
+
+		private static final long C1 = 0x87c37b91114253d5L;
+		private static final long C2 = 0x4cf5ad432745937fL;
+
+		private byte[] buffer = new byte[64];
+		private int length;
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			buffer[length++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes) {
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, length, bytes.length);
+			length += bytes.length;
+		}
+
+		void writeVarInt(int value) {
+			writeUnsigned(value & 0xFFFFFFFFL);
+		}
+
+		/**
+		 * zigzag 인코딩으로 절댓값이 작은 음수도 짧게 기록합니다.
+		 */
+		void writeVarLong(long value) {
+			writeUnsigned((value << 1) ^ (value >> 63));
+		}
+
+		void writeFixedLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				buffer[length++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeString(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(bytes.length);
+			writeBytes(bytes);
+		}
+
+		private void writeUnsigned(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[length++] = (byte) value;
+		}
+
+		private void ensureCapacity(int additional) {
+			if (length + additional > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+			}
+		}
+
+		void reset() {
+			length = 0;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, length);
+		}
+
+		/**
+		 * 기록한 바이트의 64비트 해시 (MurmurHash3의 64비트 혼합 함수 사용)
+		 */
+		long fingerprint() {
+			long hash = length * C1;
+			int i = 0;
+			for (; i + 8 <= length; i += 8) {
+				long k = 0;
+				for (int j = 0; j < 8; j++) {
+					k = (k << 8) | (buffer[i + j] & 0xFF);
+				}
+				hash ^= Long.rotateLeft(k * C1, 31) * C2;
+				hash = Long.rotateLeft(hash, 27) * 5 + 0x52dce729;
+			}
+			long tail = 0;
+			for (; i < length; i++) {
+				tail = (tail << 8) | (buffer[i] & 0xFF);
+			}
+			hash ^= Long.rotateLeft(tail * C2, 33) * C1;
+			hash ^= hash >>> 33;
+			hash *= 0xff51afd7ed558ccdL;
+			hash ^= hash >>> 33;
+			hash *= 0xc4ceb9fe1a85ec53L;
+			hash ^= hash >>> 33;
+			return hash;
+		}
+	}
+
+	private static final class Input {
+
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+			if (position >= buffer.length) {
+				throw new IllegalArgumentException("Unexpected end of encoded criteria");
+			}
+			return buffer[position++];
+		}
+
+		byte[] readBytes(int size) {
+			if (size < 0 || size > buffer.length - position) {
+				throw new IllegalArgumentException("Unexpected end of encoded criteria");
+			}
+			byte[] bytes = Arrays.copyOfRange(buffer, position, position + size);
+			position += size;
+			return bytes;
+		}
+
+		int readVarInt() {
+			long value = readUnsigned();
+			if (value > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Malformed length " + value);
+			}
+			return (int) value;
+		}
+
+		long readVarLong() {
+			long value = readUnsigned();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readFixedLong() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (readByte() & 0xFF);
+			}
+			return value;
+		}
+
+		String readString() {
+			return new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+		}
+
+		private long readUnsigned() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable-length number");
+		}
+
+		void requireEnd() {
+			if (position != buffer.length) {
+				throw new IllegalArgumentException("Trailing bytes after encoded criteria");
+			}
+		}
+	}
+}
@@ -0,0 +1,578 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link QueryService}에서 만든 {@link Specification}을 {@link EntityManager}로 직접 실행하는 도우미.
+ * 저장소(Repository)의 {@code findAll}로는 표현하기 어려운 조회 방식을 지원합니다.
+ * 트랜잭션은 호출하는 서비스의 트랜잭션을 사용합니다.
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ */
+public class CriteriaExecutor<ENTITY> {
+
+	/**
+	 * 스트리밍 조회의 기본 JDBC fetch size
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 500;
+
+	private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+
+	private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
+	/**
+	 * 현재 스레드에서 조회 사양을 적용하고 있는 집계 쿼리
+	 */
+	private static final ThreadLocal<CriteriaQuery<?>> AGGREGATE_QUERY = new ThreadLocal<>();
+
+	private final EntityManager entityManager;
+
+	private final Class<ENTITY> domainClass;
+
+	public CriteriaExecutor(EntityManager entityManager, Class<ENTITY> domainClass) {
+		this.entityManager = entityManager;
+		this.domainClass = domainClass;
+	}
+
+	/**
+	 * 키셋 페이지네이션으로 한 페이지를 조회합니다.
+	 * {@code size + 1}개의 행을 조회하여 다음 페이지 존재 여부를 판단하므로 별도의 count 쿼리를 실행하지 않습니다.
+	 *
+	 * @param specification {@link QueryService#buildKeysetSpecification(Keyset, KeysetCursor)}가 포함된 조회 사양
+	 * @param keyset        정렬 기준
+	 * @param size          페이지 크기, 1 이상
+	 * @param <S>           정렬 컬럼의 유형
+	 * @param <ID>          식별자의 유형
+	 * @return 조회 결과와 다음 페이지 커서
+	 */
+	public <S extends Comparable<? super S>, ID extends Comparable<? super ID>> KeysetSlice<ENTITY> findKeysetSlice(
+			Specification<ENTITY> specification, Keyset<ENTITY, S, ID> keyset, int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("size must be positive: " + size);
+		}
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<ENTITY> query = builder.createQuery(domainClass);
+		Root<ENTITY> root = applySpecification(specification, query, builder);
+		if (query.getOrderList().isEmpty()) {
+			query.orderBy(keyset.isAscending() ?
+					List.of(builder.asc(root.get(keyset.getSortField())), builder.asc(root.get(keyset.getIdField()))) :
+					List.of(builder.desc(root.get(keyset.getSortField())), builder.desc(root.get(keyset.getIdField()))));
+		}
+		TypedQuery<ENTITY> typedQuery = entityManager.createQuery(query.select(root)).setMaxResults(size + 1);
+		List<ENTITY> rows = execute(specification, QueryType.CONTENT, typedQuery::getResultList, List::size);
+		if (rows.size() <= size) {
+			return new KeysetSlice<>(rows, null);
+		}
+		List<ENTITY> content = new ArrayList<>(rows.subList(0, size));
+		return new KeysetSlice<>(content, keyset.cursorOf(content.get(size - 1)).encode());
+	}
+
+	/**
+	 * 조회 결과를 한 번에 메모리에 올리지 않고 스트림으로 조회합니다.
+	 * {@link #DEFAULT_FETCH_SIZE}개 단위로 행을 가져오며, 영속성 컨텍스트는 비우지 않으므로 처리한 엔티티가 트랜잭션이 끝날 때까지 남습니다.
+	 * 수백만 건을 내보낸다면 {@link #stream(Specification, Sort, int, int)}에 비우는 간격을 지정하세요.
+	 *
+	 * @param specification 조회 사양
+	 * @param sort          정렬 조건
+	 * @return 조회 결과 스트림
+	 * @see #stream(Specification, Sort, int, int)
+	 */
+	public Stream<ENTITY> stream(Specification<ENTITY> specification, Sort sort) {
+		return stream(specification, sort, DEFAULT_FETCH_SIZE, 0);
+	}
+
+	/**
+	 * 조회 결과를 한 번에 메모리에 올리지 않고 스트림으로 조회합니다.
+	 * 수백만 건을 내보내는 작업처럼 결과 전체를 목록으로 만들 수 없을 때 사용합니다.
+	 * 엔티티는 읽기 전용으로 조회되며, {@code clearInterval}개를 처리할 때마다 영속성 컨텍스트를 반영(flush)한 뒤 비웁니다.
+	 * <ul>
+	 *     <li>이미 처리한 엔티티는 분리(detach)되므로 지연 로딩 연관을 사용할 수 없습니다.</li>
+	 *     <li>스트림과 관계없이 같은 트랜잭션에서 읽은 엔티티도 모두 분리됩니다. 비운 뒤 그 엔티티를 변경하면 저장되지 않습니다.</li>
+	 *     <li>비우기 전에 반영하므로 스트림을 소비하면서 변경한 내용은 유실되지 않지만, 그 시점에 SQL이 실행됩니다.
+	 *     변경과 내보내기를 섞는다면 비우지 않거나({@code clearInterval} 0) 트랜잭션을 나누세요.</li>
+	 * </ul>
+	 * 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+	 * {@link QueryService#instrumented}로 만든 사양이면 쿼리를 연 시점부터 스트림을 닫을 때까지의 시간과 내보낸 행의 수를
+	 * 닫을 때 {@link QueryType#CONTENT} 쿼리로 기록합니다.
+	 * <pre>
+	 *      try (Stream&lt;Example&gt; stream = executor.stream(specification, Sort.by("id"), 1000, 1000)) {
+	 *          stream.forEach(writer::write);
+	 *      }
+	 * </pre>
+	 *
+	 * @param specification 조회 사양
+	 * @param sort          정렬 조건
+	 * @param fetchSize     JDBC fetch size
+	 * @param clearInterval 영속성 컨텍스트를 비우는 간격, 0 이하이면 비우지 않습니다.
+	 * @return 조회 결과 스트림
+	 */
+	public Stream<ENTITY> stream(Specification<ENTITY> specification, Sort sort, int fetchSize, int clearInterval) {
+		TypedQuery<ENTITY> query = createContentQuery(specification, sort)
+				.setHint(HINT_FETCH_SIZE, fetchSize)
+				.setHint(HINT_READ_ONLY, true);
+		if (!(specification instanceof InstrumentedSpecification<ENTITY> instrumented)) {
+			Stream<ENTITY> stream = query.getResultStream();
+			if (clearInterval <= 0) {
+				return stream;
+			}
+			return StreamSupport.stream(new ClearingSpliterator<>(stream.spliterator(), entityManager, clearInterval), false)
+					.onClose(stream::close);
+		}
+		long start = System.nanoTime();
+		Stream<ENTITY> stream;
+		try {
+			stream = query.getResultStream();
+		} catch (RuntimeException e) {
+			instrumented.getInstrumentation().queryFailed(instrumented.getProfile(), QueryType.CONTENT, System.nanoTime() - start, e);
+			throw e;
+		}
+		InstrumentedSpliterator<ENTITY> spliterator = new InstrumentedSpliterator<>(stream.spliterator(), instrumented, start);
+		return StreamSupport.stream(clearInterval > 0 ? new ClearingSpliterator<>(spliterator, entityManager, clearInterval) : spliterator, false)
+				.onClose(stream::close)
+				.onClose(spliterator::close);
+	}
+
+	/**
+	 * 한 페이지와 전체 건수를 조회합니다.
+	 * 첫 페이지의 결과가 페이지 크기보다 적거나 마지막 페이지처럼 조회 결과로 전체 건수를 알 수 있으면
+	 * count 쿼리를 실행하지 않습니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param pageable      페이지 정보
+	 * @return 조회한 페이지
+	 * @see #count(Specification)
+	 */
+	public Page<ENTITY> findPage(Specification<ENTITY> specification, Pageable pageable) {
+		List<ENTITY> content = findContent(specification, pageable);
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(content);
+		}
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+	}
+
+	/**
+	 * count 쿼리 없이 한 페이지의 내용만 조회합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param pageable      페이지 정보
+	 * @return 페이지의 내용
+	 * @see #findPage(Specification, Pageable)
+	 */
+	public List<ENTITY> findContent(Specification<ENTITY> specification, Pageable pageable) {
+		TypedQuery<ENTITY> query = page(createContentQuery(specification, pageable.getSort()), pageable);
+		return execute(specification, QueryType.CONTENT, query::getResultList, List::size);
+	}
+
+	/**
+	 * 전체 건수 없이 한 페이지를 조회합니다.
+	 * {@code pageSize + 1}개의 행을 조회하여 다음 페이지 존재 여부만 판단하므로 count 쿼리를 실행하지 않습니다.
+	 * 전체 페이지 수를 보여줄 필요가 없는 "더 보기" 형태의 목록에 사용합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param pageable      페이지 정보
+	 * @return 조회한 슬라이스
+	 */
+	public Slice<ENTITY> findSlice(Specification<ENTITY> specification, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			TypedQuery<ENTITY> query = createContentQuery(specification, pageable.getSort());
+			return new SliceImpl<>(execute(specification, QueryType.CONTENT, query::getResultList, List::size));
+		}
+		TypedQuery<ENTITY> query = createContentQuery(specification, pageable.getSort())
+				.setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize() + 1);
+		List<ENTITY> rows = execute(specification, QueryType.CONTENT, query::getResultList, List::size);
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<ENTITY> content = hasNext ? new ArrayList<>(rows.subList(0, pageable.getPageSize())) : rows;
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	/**
+	 * 조회 사양에 해당하는 엔티티의 수를 조회합니다.
+	 * 정렬을 적용하지 않으며, 사양이 {@code distinct}를 요청하더라도 to-many 연관을 조인한 경우에만
+	 * {@code count(distinct id)}를 사용하고 그 외에는 {@code count(id)}를 사용합니다.
+	 * 사양에서 fetch join을 사용한다면 {@link QueryService#isCountQuery(CriteriaQuery)}로 count 쿼리를 제외해야 합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @return 엔티티 수
+	 */
+	public long count(Specification<ENTITY> specification) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = builder.createQuery(Long.class);
+		Root<ENTITY> root = applyAggregateSpecification(specification, query, builder);
+		boolean distinct = query.isDistinct() && hasToManyJoin(root);
+		query.select(distinct ? builder.countDistinct(root) : builder.count(root));
+		query.distinct(false);
+		query.orderBy(List.of());
+		TypedQuery<Long> countQuery = entityManager.createQuery(query);
+		return execute(specification, QueryType.COUNT, countQuery::getSingleResult, Long::longValue);
+	}
+
+	/**
+	 * 조회 사양에 해당하는 행에서 속성의 최솟값을 조회합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param attribute     최솟값을 구할 속성
+	 * @param <X>           속성의 유형
+	 * @return 최솟값, 해당하는 행이 없으면 {@code null}
+	 * @see #bounds(Specification, SingularAttribute)
+	 */
+	public <X extends Comparable<? super X>> X min(Specification<ENTITY> specification,
+												   SingularAttribute<? super ENTITY, X> attribute) {
+		return bounds(specification, attribute).get(0);
+	}
+
+	/**
+	 * 조회 사양에 해당하는 행에서 속성의 최댓값을 조회합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param attribute     최댓값을 구할 속성
+	 * @param <X>           속성의 유형
+	 * @return 최댓값, 해당하는 행이 없으면 {@code null}
+	 * @see #bounds(Specification, SingularAttribute)
+	 */
+	public <X extends Comparable<? super X>> X max(Specification<ENTITY> specification,
+												   SingularAttribute<? super ENTITY, X> attribute) {
+		return bounds(specification, attribute).get(1);
+	}
+
+	/**
+	 * 조회 사양에 해당하는 행에서 속성의 최솟값과 최댓값을 하나의 {@code select min(..), max(..)} 쿼리로 조회합니다.
+	 * count 쿼리와 마찬가지로 정렬을 적용하지 않으며, fetch join을 추가하는 사양은
+	 * {@link QueryService#isCountQuery(CriteriaQuery)}가 {@code true}일 때 fetch를 건너뛰어야 합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param attribute     최솟값과 최댓값을 구할 속성
+	 * @param <X>           속성의 유형
+	 * @return {@code [최솟값, 최댓값]}, 해당하는 행이 없으면 두 값 모두 {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public <X extends Comparable<? super X>> List<X> bounds(Specification<ENTITY> specification,
+															SingularAttribute<? super ENTITY, X> attribute) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<ENTITY> root = applyAggregateSpecification(specification, query, builder);
+		Expression<X> value = root.get(attribute);
+		query.multiselect(builder.least(value), builder.greatest(value));
+		query.distinct(false);
+		query.orderBy(List.of());
+		TypedQuery<Tuple> boundsQuery = entityManager.createQuery(query);
+		Tuple row = execute(specification, QueryType.AGGREGATE, boundsQuery::getSingleResult, result -> 1);
+		return Arrays.asList((X) row.get(0), (X) row.get(1));
+	}
+
+	/**
+	 * 엔티티 대신 선택한 속성만 조회하여 DTO 또는 record로 반환합니다.
+	 * 결과 클래스에는 속성 순서와 유형이 같은 생성자가 있어야 합니다.
+	 * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회하므로, 넓은 엔티티의 일부 컬럼만 보여주는 목록에 사용합니다.
+	 * <pre>
+	 *      executor.findAll(specification, ExampleSummary.class, Sort.by("id"), List.of(Example_.id, Example_.stringField))
+	 * </pre>
+	 *
+	 * @param specification 조회 사양
+	 * @param resultClass   결과 클래스
+	 * @param sort          정렬 조건
+	 * @param attributes    조회할 속성
+	 * @param <R>           결과의 유형
+	 * @return 조회 결과
+	 */
+	public <R> List<R> findAll(Specification<ENTITY> specification, Class<R> resultClass, Sort sort,
+							   List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		TypedQuery<R> query = createQuery(specification, resultClass, sort,
+				(root, builder) -> builder.construct(resultClass, selections(root, attributes)));
+		return execute(specification, QueryType.CONTENT, query::getResultList, List::size);
+	}
+
+	/**
+	 * 엔티티 대신 선택한 속성만 한 페이지 조회하여 DTO 또는 record로 반환합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param resultClass   결과 클래스
+	 * @param pageable      페이지 정보
+	 * @param attributes    조회할 속성
+	 * @param <R>           결과의 유형
+	 * @return 조회한 페이지
+	 * @see #findAll(Specification, Class, Sort, List)
+	 */
+	public <R> Page<R> findPage(Specification<ENTITY> specification, Class<R> resultClass, Pageable pageable,
+								List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		List<R> content = findContent(specification, resultClass, pageable, attributes);
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(content);
+		}
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+	}
+
+	/**
+	 * count 쿼리 없이 선택한 속성만 한 페이지 조회하여 DTO 또는 record로 반환합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param resultClass   결과 클래스
+	 * @param pageable      페이지 정보
+	 * @param attributes    조회할 속성
+	 * @param <R>           결과의 유형
+	 * @return 페이지의 내용
+	 * @see #findPage(Specification, Class, Pageable, List)
+	 */
+	public <R> List<R> findContent(Specification<ENTITY> specification, Class<R> resultClass, Pageable pageable,
+								   List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		TypedQuery<R> query = createQuery(specification, resultClass, pageable.getSort(),
+				(root, builder) -> builder.construct(resultClass, selections(root, attributes)));
+		TypedQuery<R> pageQuery = page(query, pageable);
+		return execute(specification, QueryType.CONTENT, pageQuery::getResultList, List::size);
+	}
+
+	/**
+	 * 엔티티 대신 선택한 속성만 {@link Tuple}로 조회합니다. 각 항목의 별칭은 속성 이름입니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param sort          정렬 조건
+	 * @param attributes    조회할 속성
+	 * @return 조회 결과
+	 */
+	public List<Tuple> findTuples(Specification<ENTITY> specification, Sort sort,
+								  List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		TypedQuery<Tuple> query = createQuery(specification, Tuple.class, sort,
+				(root, builder) -> builder.tuple(selections(root, attributes)));
+		return execute(specification, QueryType.CONTENT, query::getResultList, List::size);
+	}
+
+	/**
+	 * 조회 사양에 해당하는 행의 facet별 값→건수를 조회합니다.
+	 * 값마다 count 쿼리를 실행하는 대신 facet마다 {@code GROUP BY} 쿼리 하나로 건수를 구합니다.
+	 * JPA Criteria API로는 {@code GROUPING SETS}를 표현할 수 없으므로 facet을 하나의 쿼리로 합치지는 않습니다.
+	 * facet 쿼리는 엔티티를 선택하지 않으므로, fetch join을 추가하는 사양은 count 쿼리와 마찬가지로
+	 * {@link QueryService#isCountQuery(CriteriaQuery)}가 {@code true}일 때 fetch를 건너뛰어야 합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param facets        건수를 구할 facet, {@link Facet#excludingFilter(String)}는 무시됩니다.
+	 * @return facet별 값→건수
+	 */
+	public FacetCounts countFacets(Specification<ENTITY> specification, List<? extends Facet<ENTITY, ?>> facets) {
+		Map<String, Map<?, Long>> counts = new LinkedHashMap<>();
+		for (Facet<ENTITY, ?> facet : facets) {
+			counts.put(facet.getName(), countFacet(specification, facet));
+		}
+		return new FacetCounts(counts);
+	}
+
+	/**
+	 * 조회 기준에 해당하는 행의 facet별 값→건수를 조회합니다.
+	 * fetch join을 추가하는 사양은 {@link QueryService#isCountQuery(CriteriaQuery)}가 {@code true}일 때 fetch를 건너뛰어야 합니다.
+	 * {@link Facet#excludingFilter(String)}로 지정한 필터는 그 facet의 건수를 구할 때만 조회 기준에서 제외되므로,
+	 * 선택한 값 외의 다른 값의 건수도 함께 보여 줄 수 있습니다. 필터를 제외하지 않는 facet은 같은 조회 사양을 사용합니다.
+	 * <pre>
+	 *      FacetCounts facets = executor.countFacets(criteria, this::createSpecification, List.of(STATUS, CATEGORY));
+	 * </pre>
+	 *
+	 * @param criteria             조회 기준
+	 * @param specificationBuilder 조회 기준으로 조회 사양을 구성하는 함수
+	 * @param facets               건수를 구할 facet
+	 * @param <C>                  조회 기준의 유형
+	 * @return facet별 값→건수
+	 */
+	@SuppressWarnings("unchecked")
+	public <C extends Criteria> FacetCounts countFacets(C criteria, Function<? super C, Specification<ENTITY>> specificationBuilder,
+														List<? extends Facet<ENTITY, ?>> facets) {
+		Specification<ENTITY> specification = specificationBuilder.apply(criteria);
+		Map<String, Map<?, Long>> counts = new LinkedHashMap<>();
+		for (Facet<ENTITY, ?> facet : facets) {
+			Specification<ENTITY> facetSpecification = specification;
+			if (facet.getExcludedFilter() != null) {
+				Field field = CriteriaFields.find(criteria.getClass(), facet.getExcludedFilter());
+				if (field == null) {
+					throw new IllegalArgumentException(criteria.getClass().getName() + " has no field " + facet.getExcludedFilter());
+				}
+				if (CriteriaFields.get(field, criteria) != null) {
+					C excluded = (C) criteria.copy();
+					CriteriaFields.set(field, excluded, null);
+					facetSpecification = specificationBuilder.apply(excluded);
+				}
+			}
+			counts.put(facet.getName(), countFacet(facetSpecification, facet));
+		}
+		return new FacetCounts(counts);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <X> Map<X, Long> countFacet(Specification<ENTITY> specification, Facet<ENTITY, X> facet) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<ENTITY> root = applyAggregateSpecification(specification, query, builder);
+		Expression<X> value = facet.expression(root);
+		Expression<Long> count = query.isDistinct() && hasToManyJoin(root) ? builder.countDistinct(root) : builder.count(root);
+		query.multiselect(value, count)
+				.groupBy(value)
+				.orderBy(builder.desc(count), builder.asc(value))
+				.distinct(false);
+		TypedQuery<Tuple> facetQuery = entityManager.createQuery(query);
+		if (facet.getLimit() > 0) {
+			facetQuery.setMaxResults(facet.getLimit());
+		}
+		List<Tuple> rows = execute(specification, QueryType.FACET, facetQuery::getResultList, List::size);
+		Map<X, Long> counts = new LinkedHashMap<>();
+		for (Tuple row : rows) {
+			counts.put((X) row.get(0), row.get(1, Long.class));
+		}
+		return counts;
+	}
+
+	/**
+	 * 사양이 {@link QueryService#instrumented}로 만든 사양이면 쿼리 실행 시간과 결과 수를 계측에 기록합니다.
+	 */
+	private <T> T execute(Specification<ENTITY> specification, QueryType type, Supplier<T> query,
+						  ToLongFunction<T> resultCount) {
+		if (!(specification instanceof InstrumentedSpecification<ENTITY> instrumented)) {
+			return query.get();
+		}
+		long start = System.nanoTime();
+		T result;
+		try {
+			result = query.get();
+		} catch (RuntimeException e) {
+			instrumented.getInstrumentation().queryFailed(instrumented.getProfile(), type, System.nanoTime() - start, e);
+			throw e;
+		}
+		instrumented.getInstrumentation().queryExecuted(instrumented.getProfile(), type, System.nanoTime() - start,
+				resultCount.applyAsLong(result));
+		return result;
+	}
+
+	private static <R> TypedQuery<R> page(TypedQuery<R> query, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return query;
+		}
+		return query.setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize());
+	}
+
+	private TypedQuery<ENTITY> createContentQuery(Specification<ENTITY> specification, Sort sort) {
+		return createQuery(specification, domainClass, sort, (root, builder) -> root);
+	}
+
+	private <R> TypedQuery<R> createQuery(Specification<ENTITY> specification, Class<R> resultType, Sort sort,
+										  BiFunction<Root<ENTITY>, CriteriaBuilder, Selection<? extends R>> selection) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<R> query = builder.createQuery(resultType);
+		Root<ENTITY> root = applySpecification(specification, query, builder);
+		if (sort != null && sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, builder));
+		}
+		return entityManager.createQuery(query.select(selection.apply(root, builder)));
+	}
+
+	private static <ENTITY> Selection<?>[] selections(Root<ENTITY> root,
+													  List<? extends SingularAttribute<? super ENTITY, ?>> attributes) {
+		Selection<?>[] selections = new Selection<?>[attributes.size()];
+		for (int i = 0; i < selections.length; i++) {
+			SingularAttribute<? super ENTITY, ?> attribute = attributes.get(i);
+			selections[i] = root.get(attribute).alias(attribute.getName());
+		}
+		return selections;
+	}
+
+	/**
+	 * 행이 중복될 수 있는 join이 있는지 확인합니다. 연관 속성 없이 엔티티를 직접 join하면(Hibernate의 entity join)
+	 * {@link Join#getAttribute()}가 {@code null}이므로 여러 행이 붙을 수 있는 join으로 취급합니다.
+	 */
+	private static boolean hasToManyJoin(From<?, ?> from) {
+		for (Join<?, ?> join : from.getJoins()) {
+			if (join.getAttribute() == null || join.getAttribute().isCollection() || hasToManyJoin(join)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 집계 쿼리임을 표시한 상태로 조회 사양을 적용합니다. 사양은 {@link #isAggregateQuery(CriteriaQuery)}로 이를 확인할 수 있습니다.
+	 */
+	private Root<ENTITY> applyAggregateSpecification(Specification<ENTITY> specification, CriteriaQuery<?> query,
+													 CriteriaBuilder builder) {
+		CriteriaQuery<?> previous = AGGREGATE_QUERY.get();
+		AGGREGATE_QUERY.set(query);
+		try {
+			return applySpecification(specification, query, builder);
+		} finally {
+			if (previous == null) {
+				AGGREGATE_QUERY.remove();
+			} else {
+				AGGREGATE_QUERY.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * 조회 사양이 적용되고 있는 쿼리가 {@link #count(Specification)}, {@link #bounds(Specification, SingularAttribute)},
+	 * {@link #countFacets(Specification, List)}처럼
+	 * 엔티티를 선택하지 않는 집계 쿼리인지 확인합니다.
+	 * 결과 유형으로 추측하지 않으므로 {@code Long} id만 조회하는 쿼리는 집계 쿼리가 아닙니다.
+	 *
+	 * @param query 사양이 적용되는 쿼리
+	 * @return 이 클래스가 실행하는 집계 쿼리이면 {@code true}
+	 */
+	static boolean isAggregateQuery(CriteriaQuery<?> query) {
+		return query != null && AGGREGATE_QUERY.get() == query;
+	}
+
+	/**
+	 * 조회 사양을 쿼리의 조건으로 적용합니다.
+	 *
+	 * @param specification 조회 사양, {@code null}이면 조건을 적용하지 않습니다.
+	 * @param query         사양을 적용할 쿼리
+	 * @param builder       조건을 만들 {@link CriteriaBuilder}
+	 * @return 쿼리의 루트
+	 */
+	protected Root<ENTITY> applySpecification(Specification<ENTITY> specification, CriteriaQuery<?> query,
+											  CriteriaBuilder builder) {
+		Root<ENTITY> root = query.from(domainClass);
+		if (specification != null) {
+			Predicate predicate = specification.toPredicate(root, query, builder);
+			if (predicate != null) {
+				query.where(predicate);
+			}
+		}
+		return root;
+	}
+
+	protected EntityManager getEntityManager() {
+		return entityManager;
+	}
+
+	protected Class<ENTITY> getDomainClass() {
+		return domainClass;
+	}
+}
@@ -0,0 +1,68 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 조회 기준 클래스의 인스턴스 필드 목록
+ * <p>
+ * static, transient 필드를 제외한 필드를 이름 순서로 반환하므로, JVM마다 다를 수 있는 선언 순서와 관계없이
+ * 같은 클래스에서는 항상 같은 순서를 얻습니다.
+ */
+final class CriteriaFields {
+
+	private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+		@Override
+		protected Field[] computeValue(Class<?> type) {
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+							&& field.trySetAccessible()) {
+						fields.add(field);
+					}
+				}
+			}
+			fields.sort(Comparator.comparing(Field::getName).thenComparing(field -> field.getDeclaringClass().getName()));
+			return fields.toArray(new Field[0]);
+		}
+	};
+
+	private CriteriaFields() {
+	}
+
+	static Field[] of(Class<?> criteriaType) {
+		return FIELDS.get(criteriaType);
+	}
+
+	/**
+	 * @return 이름이 같은 필드, 없으면 {@code null}
+	 */
+	static Field find(Class<?> criteriaType, String name) {
+		for (Field field : of(criteriaType)) {
+			if (field.getName().equals(name)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	static Object get(Field field, Object criteria) {
+		try {
+			return field.get(criteria);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot read criteria field " + field, e);
+		}
+	}
+
+	static void set(Field field, Object criteria, Object value) {
+		try {
+			field.set(criteria, value);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot write criteria field " + field, e);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.List;
+
+/**
+ * 조회 사양 구성과 쿼리 실행을 계측하는 SPI.
+ * 외부 라이브러리에 의존하지 않으며, 필요한 메서드만 재정의하여 메트릭이나 추적 시스템에 연결합니다.
+ * 구현은 여러 스레드에서 동시에 호출되므로 스레드 안전해야 하고, 요청 처리 시간에 영향을 주지 않도록 가벼워야 합니다.
+ *
+ * @see QueryService#getInstrumentation()
+ * @see SlowQueryLog
+ */
+public interface CriteriaInstrumentation {
+
+	/**
+	 * @return 아무것도 기록하지 않는 계측
+	 */
+	static CriteriaInstrumentation noop() {
+		return NoopCriteriaInstrumentation.INSTANCE;
+	}
+
+	/**
+	 * @param instrumentations 함께 사용할 계측
+	 * @return 모든 계측에 차례로 전달하는 계측
+	 */
+	static CriteriaInstrumentation composite(CriteriaInstrumentation... instrumentations) {
+		List<CriteriaInstrumentation> delegates = List.of(instrumentations);
+		return new CriteriaInstrumentation() {
+			@Override
+			public void specificationBuilt(CriteriaProfile profile, long elapsedNanos) {
+				delegates.forEach(delegate -> delegate.specificationBuilt(profile, elapsedNanos));
+			}
+
+			@Override
+			public void predicateCreated(CriteriaProfile profile, long elapsedNanos, int predicateCount, int joinCount) {
+				delegates.forEach(delegate -> delegate.predicateCreated(profile, elapsedNanos, predicateCount, joinCount));
+			}
+
+			@Override
+			public void queryExecuted(CriteriaProfile profile, QueryType type, long elapsedNanos, long resultCount) {
+				delegates.forEach(delegate -> delegate.queryExecuted(profile, type, elapsedNanos, resultCount));
+			}
+
+			@Override
+			public void queryFailed(CriteriaProfile profile, QueryType type, long elapsedNanos, RuntimeException failure) {
+				delegates.forEach(delegate -> delegate.queryFailed(profile, type, elapsedNanos, failure));
+			}
+
+			@Override
+			public void unsatisfiableCriteria(CriteriaProfile profile) {
+				delegates.forEach(delegate -> delegate.unsatisfiableCriteria(profile));
+			}
+		};
+	}
+
+	/**
+	 * 조회 기준으로 조회 사양을 구성했을 때 호출됩니다.
+	 *
+	 * @param profile      조회 기준의 요약
+	 * @param elapsedNanos 사양 구성에 걸린 시간(나노초)
+	 */
+	default void specificationBuilt(CriteriaProfile profile, long elapsedNanos) {
+	}
+
+	/**
+	 * 조회 사양을 쿼리의 조건({@code Predicate})으로 변환했을 때 호출됩니다. 쿼리마다 한 번씩, count 쿼리에서도 호출됩니다.
+	 *
+	 * @param profile        조회 기준의 요약
+	 * @param elapsedNanos   변환에 걸린 시간(나노초)
+	 * @param predicateCount and/or로 묶이지 않은 단일 조건의 수
+	 * @param joinCount      쿼리에 추가된 join의 수
+	 */
+	default void predicateCreated(CriteriaProfile profile, long elapsedNanos, int predicateCount, int joinCount) {
+	}
+
+	/**
+	 * {@link CriteriaExecutor}가 쿼리를 실행했을 때 호출됩니다.
+	 *
+	 * @param profile      조회 기준의 요약
+	 * @param type         쿼리의 종류
+	 * @param elapsedNanos 실행에 걸린 시간(나노초)
+	 * @param resultCount  조회한 행의 수, count 쿼리는 조회한 건수
+	 */
+	default void queryExecuted(CriteriaProfile profile, QueryType type, long elapsedNanos, long resultCount) {
+	}
+
+	/**
+	 * {@link CriteriaExecutor}가 실행한 쿼리가 실패했을 때 호출됩니다.
+	 *
+	 * @param profile      조회 기준의 요약
+	 * @param type         쿼리의 종류
+	 * @param elapsedNanos 실패할 때까지 걸린 시간(나노초)
+	 * @param failure      발생한 예외
+	 */
+	default void queryFailed(CriteriaProfile profile, QueryType type, long elapsedNanos, RuntimeException failure) {
+	}
+
+	/**
+	 * {@link QueryService#isUnsatisfiable(com.nalutbae.jpa.criteria.Criteria)}가 만족할 수 없는 조회 기준을 찾았을 때 호출됩니다.
+	 *
+	 * @param profile 조회 기준의 요약
+	 */
+	default void unsatisfiableCriteria(CriteriaProfile profile) {
+	}
+}
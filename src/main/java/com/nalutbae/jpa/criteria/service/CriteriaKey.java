@@ -0,0 +1,131 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 조회 기준을 캐시 키로 사용할 수 있도록 정규화한 값
+ * <p>
+ * 조회 기준 클래스가 {@code equals}/{@code hashCode}를 구현하지 않아도 되도록 인스턴스 필드 값을 읽어 비교합니다.
+ * 필터는 복사해서 보관하므로 키를 만든 뒤 원래 조회 기준을 수정해도 키는 바뀌지 않으며,
+ * 연산자가 하나도 지정되지 않은 필터는 {@code null}과 같은 값으로 취급하고,
+ * in/notIn 목록은 정렬하고 중복을 제거하여 {@code in=[1,2]}, {@code in=[2,1]}, {@code in=[1,1,2]}가 같은 키가 되도록 합니다.
+ * 페이지, 정렬, 결과 유형처럼 같은 조회 기준이라도 결과가 달라지는 값은 {@code qualifiers}로 함께 전달합니다.
+ */
+public final class CriteriaKey {
+
+	private final Class<?> criteriaType;
+	private final Object[] values;
+	private final Object[] qualifiers;
+	private final int hashCode;
+
+	private CriteriaKey(Class<?> criteriaType, Object[] values, Object[] qualifiers) {
+		this.criteriaType = criteriaType;
+		this.values = values;
+		this.qualifiers = qualifiers;
+		this.hashCode = 31 * (31 * criteriaType.hashCode() + Arrays.hashCode(values)) + Arrays.hashCode(qualifiers);
+	}
+
+	/**
+	 * @param criteria   캐시 키로 사용할 조회 기준
+	 * @param qualifiers 결과에 영향을 주는 그 밖의 값 (예: {@code Pageable}, {@code Sort}, 결과 DTO 클래스)
+	 * @return 조회 기준과 추가 값으로 구성된 키
+	 */
+	public static CriteriaKey of(Criteria criteria, Object... qualifiers) {
+		Objects.requireNonNull(criteria, "criteria");
+		Field[] fields = CriteriaFields.of(criteria.getClass());
+		Object[] values = new Object[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			values[i] = canonicalize(CriteriaFields.get(fields[i], criteria));
+		}
+		return new CriteriaKey(criteria.getClass(), values, qualifiers.clone());
+	}
+
+	private static Object canonicalize(Object value) {
+		if (value instanceof Filter<?> filter) {
+			return FilterShape.of(filter).isEmpty() ? null : canonicalFilter(filter);
+		}
+		if (value instanceof Collection<?> collection) {
+			return new ArrayList<>(collection);
+		}
+		return value;
+	}
+
+	/**
+	 * in/notIn 목록의 순서와 중복은 결과에 영향을 주지 않으므로 정렬하고 중복을 제거한 복사본을 만듭니다.
+	 */
+	private static <X> Filter<X> canonicalFilter(Filter<X> filter) {
+		Filter<X> copy = filter.copy();
+		if (copy.getIn() != null) {
+			copy.setIn(canonicalValues(copy.getIn()));
+		}
+		if (copy.getNotIn() != null) {
+			copy.setNotIn(canonicalValues(copy.getNotIn()));
+		}
+		return copy;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <X> List<X> canonicalValues(List<X> values) {
+		Set<X> distinct = new LinkedHashSet<>(values.size());
+		boolean comparable = true;
+		for (X value : values) {
+			if (value instanceof BigDecimal number) {
+				// 1.0과 1.00은 같은 값으로 조회됩니다.
+				value = (X) (number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros());
+			}
+			comparable &= value == null || value instanceof Comparable;
+			distinct.add(value);
+		}
+		List<X> canonical = new ArrayList<>(distinct);
+		if (comparable) {
+			try {
+				canonical.sort((Comparator) Comparator.nullsFirst(Comparator.naturalOrder()));
+			} catch (ClassCastException e) {
+				// 서로 비교할 수 없는 값이 섞여 있으면 처음 나타난 순서를 유지합니다.
+			}
+		}
+		return canonical;
+	}
+
+	public Class<?> getCriteriaType() {
+		return criteriaType;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof CriteriaKey that)) {
+			return false;
+		}
+		return hashCode == that.hashCode
+				&& criteriaType == that.criteriaType
+				&& Arrays.equals(values, that.values)
+				&& Arrays.equals(qualifiers, that.qualifiers);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "CriteriaKey{" + criteriaType.getSimpleName() + Arrays.toString(values)
+				+ (qualifiers.length == 0 ? "" : " " + Arrays.toString(qualifiers)) + '}';
+	}
+}
@@ -0,0 +1,131 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 계측({@link CriteriaInstrumentation})에 전달되는 조회 기준의 요약.
+ * 조회 기준 클래스와 필드별 필터의 연산자 조합, in/notIn 목록 크기를 담습니다.
+ */
+public final class CriteriaProfile {
+
+	private static final FilterOperator[] OPERATORS = FilterOperator.values();
+
+	private static final int COMPACT_LIST_SIZE = 5;
+
+	private final Criteria criteria;
+	private final List<FilterUsage> filters;
+	private String shape;
+
+	private CriteriaProfile(Criteria criteria, List<FilterUsage> filters) {
+		this.criteria = criteria;
+		this.filters = filters;
+	}
+
+	/**
+	 * @param criteria 요약할 조회 기준
+	 * @return 연산자가 지정된 필터의 사용 정보를 필드 이름 순서로 담은 요약
+	 */
+	public static CriteriaProfile of(Criteria criteria) {
+		List<FilterUsage> filters = new ArrayList<>();
+		for (Field field : CriteriaFields.of(criteria.getClass())) {
+			if (CriteriaFields.get(field, criteria) instanceof Filter<?> filter) {
+				FilterShape shape = FilterShape.of(filter);
+				if (!shape.isEmpty()) {
+					filters.add(new FilterUsage(field.getName(), filter, shape));
+				}
+			}
+		}
+		return new CriteriaProfile(criteria, Collections.unmodifiableList(filters));
+	}
+
+	public Class<? extends Criteria> getCriteriaType() {
+		return criteria.getClass();
+	}
+
+	public Criteria getCriteria() {
+		return criteria;
+	}
+
+	public List<FilterUsage> getFilters() {
+		return filters;
+	}
+
+	/**
+	 * 값과 관계없이 사용된 필드와 연산자의 조합. 같은 모양의 요청끼리 집계할 때 키로 사용합니다.
+	 *
+	 * @return 예: {@code createdAt.greaterThan+status.equals}, 필터가 없으면 {@code empty}
+	 */
+	public String getShape() {
+		if (shape == null) {
+			StringBuilder builder = new StringBuilder();
+			for (FilterUsage usage : filters) {
+				for (FilterOperator operator : OPERATORS) {
+					if (usage.getShape().contains(operator)) {
+						if (builder.length() > 0) {
+							builder.append('+');
+						}
+						builder.append(usage.getFieldName()).append('.').append(operator.getParameterName());
+					}
+				}
+			}
+			shape = builder.length() == 0 ? "empty" : builder.toString();
+		}
+		return shape;
+	}
+
+	/**
+	 * 로그에 남길 수 있도록 값을 포함한 짧은 문자열로 표현합니다. 긴 in/notIn 목록은 앞부분과 개수만 표시합니다.
+	 *
+	 * @return 예: {@code ExampleCriteria{id.in=[1, 2, 3, 4, 5, …+95], status.equals=OPEN}}
+	 */
+	public String toCompactString() {
+		StringBuilder builder = new StringBuilder(getCriteriaType().getSimpleName()).append('{');
+		boolean first = true;
+		for (FilterUsage usage : filters) {
+			for (FilterOperator operator : OPERATORS) {
+				if (!usage.getShape().contains(operator)) {
+					continue;
+				}
+				if (!first) {
+					builder.append(", ");
+				}
+				first = false;
+				builder.append(usage.getFieldName()).append('.').append(operator.getParameterName()).append('=');
+				appendValue(builder, FilterOperands.get(usage.getFilter(), operator));
+			}
+		}
+		return builder.append('}').toString();
+	}
+
+	private static void appendValue(StringBuilder builder, Object value) {
+		if (!(value instanceof List<?> values)) {
+			builder.append(value);
+			return;
+		}
+		builder.append('[');
+		int shown = Math.min(values.size(), COMPACT_LIST_SIZE);
+		for (int i = 0; i < shown; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(values.get(i));
+		}
+		if (values.size() > shown) {
+			builder.append(", …+").append(values.size() - shown);
+		}
+		builder.append(']');
+	}
+
+	@Override
+	public String toString() {
+		return getCriteriaType().getSimpleName() + '[' + getShape() + ']';
+	}
+}
@@ -0,0 +1,111 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.function.Function;
+
+/**
+ * 검색 결과 옆에 값별 건수를 보여 줄 속성.
+ * {@link CriteriaExecutor#countFacets(org.springframework.data.jpa.domain.Specification, java.util.List)}에서 facet마다 하나의 GROUP BY 쿼리로 건수를 구합니다.
+ * <pre>
+ *      Facet&lt;Order, OrderStatus&gt; status = Facet.of("status", Order_.status).excludingFilter("status");
+ *      Facet&lt;Order, String&gt; owner = Facet.&lt;Order, String&gt;of("owner", root -&gt; root.get(Order_.owner).get(User_.name)).limit(20);
+ * </pre>
+ * 인스턴스는 변경할 수 없으므로 상수로 선언하여 공유할 수 있습니다.
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ * @param <X>      속성의 유형
+ */
+public final class Facet<ENTITY, X> {
+
+	private final String name;
+	private final Function<Root<ENTITY>, Expression<X>> expression;
+	private final String excludedFilter;
+	private final int limit;
+
+	private Facet(String name, Function<Root<ENTITY>, Expression<X>> expression, String excludedFilter, int limit) {
+		this.name = name;
+		this.expression = expression;
+		this.excludedFilter = excludedFilter;
+		this.limit = limit;
+	}
+
+	/**
+	 * @param name      결과에서 facet을 구분할 이름
+	 * @param attribute 값별 건수를 구할 속성
+	 * @param <ENTITY>  쿼리할 엔티티
+	 * @param <X>       속성의 유형
+	 * @return facet
+	 */
+	public static <ENTITY, X> Facet<ENTITY, X> of(String name, SingularAttribute<? super ENTITY, X> attribute) {
+		return new Facet<>(name, root -> root.get(attribute), null, 0);
+	}
+
+	/**
+	 * @param name              결과에서 facet을 구분할 이름
+	 * @param metaclassFunction 현재 엔티티에서 값별 건수를 구할 컬럼을 가져오는 함수(람다 표현식)
+	 * @param <ENTITY>          쿼리할 엔티티
+	 * @param <X>               속성의 유형
+	 * @return facet
+	 */
+	public static <ENTITY, X> Facet<ENTITY, X> of(String name, Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+		return new Facet<>(name, metaclassFunction, null, 0);
+	}
+
+	/**
+	 * 건수를 구할 때 조회 기준에서 이 facet의 필터를 제외합니다.
+	 * 예를 들어 {@code status.equals=OPEN}으로 검색하면서도 다른 상태의 건수를 함께 보여 줄 때 사용합니다.
+	 * {@link CriteriaExecutor#countFacets(com.nalutbae.jpa.criteria.Criteria, Function, java.util.List)}에서만 적용됩니다.
+	 *
+	 * @param criteriaField 제외할 필터가 담긴 조회 기준의 필드 이름
+	 * @return 필터를 제외하는 facet
+	 */
+	public Facet<ENTITY, X> excludingFilter(String criteriaField) {
+		return new Facet<>(name, expression, criteriaField, limit);
+	}
+
+	/**
+	 * 건수가 많은 값부터 지정한 개수까지만 조회합니다. 값의 종류가 많은 속성에 사용하세요.
+	 *
+	 * @param maxValues 조회할 최대 값의 수
+	 * @return 값의 수를 제한하는 facet
+	 */
+	public Facet<ENTITY, X> limit(int maxValues) {
+		if (maxValues <= 0) {
+			throw new IllegalArgumentException("maxValues must be positive: " + maxValues);
+		}
+		return new Facet<>(name, expression, excludedFilter, maxValues);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return 제외할 필터가 담긴 조회 기준의 필드 이름, 제외하지 않으면 {@code null}
+	 */
+	public String getExcludedFilter() {
+		return excludedFilter;
+	}
+
+	/**
+	 * @return 조회할 최대 값의 수, 제한하지 않으면 0
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	Expression<X> expression(Root<ENTITY> root) {
+		return expression.apply(root);
+	}
+
+	@Override
+	public String toString() {
+		return "Facet [" + name
+				+ (excludedFilter != null ? ", excludingFilter=" + excludedFilter : "")
+				+ (limit > 0 ? ", limit=" + limit : "")
+				+ "]";
+	}
+}
@@ -0,0 +1,49 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * facet별 값→건수 조회 결과.
+ * 값은 건수가 많은 순서로 정렬되어 있으며, 속성이 null인 행의 건수는 {@code null} 키로 담깁니다.
+ *
+ * @see CriteriaExecutor#countFacets(org.springframework.data.jpa.domain.Specification, java.util.List)
+ */
+public final class FacetCounts {
+
+	private final Map<String, Map<?, Long>> counts;
+
+	FacetCounts(Map<String, Map<?, Long>> counts) {
+		this.counts = Collections.unmodifiableMap(counts);
+	}
+
+	/**
+	 * @param facet 조회한 facet
+	 * @param <X>   속성의 유형
+	 * @return 값별 건수, 조회하지 않은 facet이면 빈 맵
+	 */
+	@SuppressWarnings("unchecked")
+	public <X> Map<X, Long> get(Facet<?, X> facet) {
+		return (Map<X, Long>) get(facet.getName());
+	}
+
+	/**
+	 * @param name facet의 이름
+	 * @return 값별 건수, 조회하지 않은 facet이면 빈 맵
+	 */
+	public Map<?, Long> get(String name) {
+		return counts.getOrDefault(name, Map.of());
+	}
+
+	/**
+	 * @return facet 이름별 값→건수, JSON 응답에 그대로 담을 수 있습니다.
+	 */
+	public Map<String, Map<?, Long>> asMap() {
+		return counts;
+	}
+
+	@Override
+	public String toString() {
+		return counts.toString();
+	}
+}
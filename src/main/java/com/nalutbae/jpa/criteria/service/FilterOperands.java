@@ -0,0 +1,39 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+
+/**
+ * 필터에서 연산자에 지정된 값을 가져옵니다.
+ */
+final class FilterOperands {
+
+	private FilterOperands() {
+	}
+
+	/**
+	 * @param filter   값을 가져올 필터
+	 * @param operator 연산자, 필터 유형이 지원하지 않는 연산자이면 {@code null}을 반환합니다.
+	 * @return 연산자에 지정된 값, in과 notIn은 목록, exists는 {@link Boolean}
+	 */
+	static Object get(Filter<?> filter, FilterOperator operator) {
+		return switch (operator) {
+			case EQUALS -> filter.getEquals();
+			case NOT_EQUALS -> filter.getNotEquals();
+			case EXISTS -> filter.getExists();
+			case IN -> filter.getIn();
+			case NOT_IN -> filter.getNotIn();
+			case CONTAINS -> filter instanceof StringFilter stringFilter ? stringFilter.getContains() : null;
+			case DOES_NOT_CONTAIN -> filter instanceof StringFilter stringFilter ? stringFilter.getDoesNotContain() : null;
+			case STARTS_WITH -> filter instanceof StringFilter stringFilter ? stringFilter.getStartsWith() : null;
+			case ENDS_WITH -> filter instanceof StringFilter stringFilter ? stringFilter.getEndsWith() : null;
+			case FULL_TEXT -> filter instanceof StringFilter stringFilter ? stringFilter.getFullText() : null;
+			case GREATER_THAN -> filter instanceof RangeFilter<?> rangeFilter ? rangeFilter.getGreaterThan() : null;
+			case GREATER_THAN_OR_EQUAL -> filter instanceof RangeFilter<?> rangeFilter ? rangeFilter.getGreaterThanOrEqual() : null;
+			case LESS_THAN -> filter instanceof RangeFilter<?> rangeFilter ? rangeFilter.getLessThan() : null;
+			case LESS_THAN_OR_EQUAL -> filter instanceof RangeFilter<?> rangeFilter ? rangeFilter.getLessThanOrEqual() : null;
+		};
+	}
+}
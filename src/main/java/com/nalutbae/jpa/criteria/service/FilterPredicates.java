@@ -0,0 +1,266 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+import com.nalutbae.jpa.criteria.filter.IntegerArrayFilter;
+import com.nalutbae.jpa.criteria.filter.LongArrayFilter;
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 필터를 메모리의 엔티티 목록에 사용할 수 있는 {@link Predicate}로 변환합니다.
+ * {@link QueryService}가 만드는 SQL 조건과 같은 결과를 내도록 다음 규칙을 따릅니다.
+ * <ul>
+ *     <li>필터 유형별 연산자 우선순위가 같습니다. (예: equals가 지정되면 나머지 연산자는 무시)</li>
+ *     <li>SQL의 3값 논리처럼 null 값은 exists=false를 제외한 모든 조건을 만족하지 않습니다.</li>
+ *     <li>{@link BigDecimal}은 소수점 이하의 0을, {@link ZonedDateTime}과 {@link OffsetDateTime}은 시간대를 무시하고
+ *     같은 순간인지로 비교합니다.</li>
+ *     <li>contains, doesNotContain은 대소문자를 구분하지 않으며 값의 {@code %}, {@code _}는 LIKE 와일드카드로 해석됩니다.</li>
+ *     <li>fullText는 기본 전문 검색 방법({@link FullTextSearch#like()})과 같이 동작합니다.</li>
+ * </ul>
+ * 캐시된 참조 데이터처럼 이미 메모리에 있는 엔티티를 데이터베이스 조회 없이 필터링하거나,
+ * 두 방식의 결과를 비교하는 테스트에 사용합니다.
+ * <pre>
+ *      Predicate&lt;Example&gt; predicate = FilterPredicates.&lt;Example&gt;builder()
+ *              .and(criteria.getId(), Example::getId)
+ *              .and(criteria.getStringField(), Example::getStringField)
+ *              .build();
+ * </pre>
+ */
+public final class FilterPredicates {
+
+	private static final char LIKE_ESCAPE = '\\';
+
+	private FilterPredicates() {
+	}
+
+	/**
+	 * 필터를 엔티티에 대한 {@link Predicate}로 변환합니다.
+	 *
+	 * @param filter   변환할 필터, {@code null}이면 모든 엔티티를 만족합니다.
+	 * @param accessor 엔티티에서 필터가 적용되는 값을 가져오는 함수
+	 * @param <ENTITY> 엔티티의 유형
+	 * @param <X>      필터링되는 속성의 유형
+	 * @return 변환된 조건
+	 */
+	public static <ENTITY, X> Predicate<ENTITY> of(Filter<X> filter, Function<? super ENTITY, ? extends X> accessor) {
+		return of(filter, accessor, CaseInsensitivity.UPPER);
+	}
+
+	/**
+	 * 필터를 엔티티에 대한 {@link Predicate}로 변환합니다.
+	 *
+	 * @param filter            변환할 필터, {@code null}이면 모든 엔티티를 만족합니다.
+	 * @param accessor          엔티티에서 필터가 적용되는 값을 가져오는 함수
+	 * @param caseInsensitivity startsWith, endsWith 조건에 사용하는 대소문자 비교 방법
+	 * @param <ENTITY>          엔티티의 유형
+	 * @param <X>               필터링되는 속성의 유형
+	 * @return 변환된 조건
+	 * @see QueryService#getCaseInsensitivity()
+	 */
+	public static <ENTITY, X> Predicate<ENTITY> of(Filter<X> filter, Function<? super ENTITY, ? extends X> accessor,
+												   CaseInsensitivity caseInsensitivity) {
+		if (filter == null) {
+			return entity -> true;
+		}
+		Predicate<X> valuePredicate = valuePredicate(filter, caseInsensitivity);
+		return entity -> valuePredicate.test(accessor.apply(entity));
+	}
+
+	/**
+	 * 필터를 속성 값에 대한 {@link Predicate}로 변환합니다.
+	 *
+	 * @param filter            변환할 필터
+	 * @param caseInsensitivity startsWith, endsWith 조건에 사용하는 대소문자 비교 방법
+	 * @param <X>               필터링되는 속성의 유형
+	 * @return 변환된 조건
+	 */
+	public static <X> Predicate<X> valuePredicate(Filter<X> filter, CaseInsensitivity caseInsensitivity) {
+		PredicatePlan plan = PredicatePlan.of(PredicatePlan.Kind.of(filter), FilterShape.of(filter));
+		Predicate<X> result = null;
+		for (FilterOperator operator : plan.getOperators()) {
+			Predicate<X> predicate = operatorPredicate(operator, filter, caseInsensitivity);
+			result = result == null ? predicate : result.and(predicate);
+		}
+		return result == null ? value -> true : result;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <X> Predicate<X> operatorPredicate(FilterOperator operator, Filter<X> filter,
+													  CaseInsensitivity caseInsensitivity) {
+		return switch (operator) {
+			case EQUALS -> equalsPredicate(filter.getEquals());
+			case NOT_EQUALS -> {
+				Predicate<X> equals = equalsPredicate(filter.getNotEquals());
+				yield value -> value != null && !equals.test(value);
+			}
+			case EXISTS -> filter.getExists() ? value -> value != null : value -> value == null;
+			case IN -> inPredicate(filter, filter.getIn());
+			case NOT_IN -> notInPredicate(filter, filter.getNotIn());
+			case CONTAINS -> (Predicate) containsPredicate(((StringFilter) filter).getContains());
+			case DOES_NOT_CONTAIN -> {
+				Predicate<String> contains = containsPredicate(((StringFilter) filter).getDoesNotContain());
+				yield (Predicate) (Predicate<String>) value -> value != null && !contains.test(value);
+			}
+			case STARTS_WITH -> (Predicate) likePredicate(
+					escape(caseInsensitivity.value(((StringFilter) filter).getStartsWith())) + '%', caseInsensitivity);
+			case ENDS_WITH -> (Predicate) likePredicate(
+					'%' + escape(caseInsensitivity.value(((StringFilter) filter).getEndsWith())), caseInsensitivity);
+			case FULL_TEXT -> (Predicate) containsPredicate(((StringFilter) filter).getFullText());
+			case GREATER_THAN -> (Predicate) comparePredicate(((RangeFilter) filter).getGreaterThan(), 1, false);
+			case GREATER_THAN_OR_EQUAL -> (Predicate) comparePredicate(((RangeFilter) filter).getGreaterThanOrEqual(), 1, true);
+			case LESS_THAN -> (Predicate) comparePredicate(((RangeFilter) filter).getLessThan(), -1, false);
+			case LESS_THAN_OR_EQUAL -> (Predicate) comparePredicate(((RangeFilter) filter).getLessThanOrEqual(), -1, true);
+		};
+	}
+
+	private static <X> Predicate<X> equalsPredicate(X expected) {
+		Object canonicalExpected = canonical(expected);
+		return value -> value != null && canonical(value).equals(canonicalExpected);
+	}
+
+	private static <X> Predicate<X> inPredicate(Filter<X> filter, Collection<X> values) {
+		Predicate<Object> membership = membership(filter, values);
+		return value -> value != null && membership.test(value);
+	}
+
+	private static <X> Predicate<X> notInPredicate(Filter<X> filter, Collection<X> values) {
+		for (X expected : values) {
+			if (expected == null) {
+				// x NOT IN (..., null)은 항상 참이 될 수 없습니다.
+				return value -> false;
+			}
+		}
+		Predicate<Object> membership = membership(filter, values);
+		return value -> value != null && !membership.test(value);
+	}
+
+	/**
+	 * 목록 포함 여부를 확인하는 조건. 정렬된 배열을 사용하는 필터는 이진 탐색을, 그 밖의 필터는 해시 집합을 사용합니다.
+	 */
+	private static Predicate<Object> membership(Filter<?> filter, Collection<?> values) {
+		if (filter instanceof LongArrayFilter || filter instanceof IntegerArrayFilter) {
+			return values::contains;
+		}
+		Set<Object> set = new HashSet<>();
+		for (Object value : values) {
+			if (value != null) {
+				set.add(canonical(value));
+			}
+		}
+		return value -> set.contains(canonical(value));
+	}
+
+	/**
+	 * SQL에서 같은 값으로 비교되는 값을 같은 객체로 바꿉니다.
+	 */
+	private static Object canonical(Object value) {
+		if (value instanceof BigDecimal decimal) {
+			// SQL은 1.0과 1.00을 같은 값으로 비교합니다.
+			return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+		}
+		if (value instanceof ZonedDateTime dateTime) {
+			// SQL은 시간대와 관계없이 같은 순간을 같은 값으로 비교합니다.
+			return dateTime.toInstant();
+		}
+		if (value instanceof OffsetDateTime dateTime) {
+			return dateTime.toInstant();
+		}
+		return value;
+	}
+
+	private static Predicate<String> containsPredicate(String text) {
+		LikePattern pattern = LikePattern.compile("%" + text.toUpperCase(Locale.ROOT) + '%');
+		return value -> value != null && pattern.matches(value.toUpperCase(Locale.ROOT));
+	}
+
+	private static Predicate<String> likePredicate(String like, CaseInsensitivity caseInsensitivity) {
+		if (caseInsensitivity == CaseInsensitivity.COLLATION) {
+			// 대소문자를 구분하지 않는 collation은 양쪽을 대문자로 맞춰 비교하는 것과 같습니다.
+			LikePattern pattern = LikePattern.compile(like.toUpperCase(Locale.ROOT), LIKE_ESCAPE);
+			return value -> value != null && pattern.matches(value.toUpperCase(Locale.ROOT));
+		}
+		LikePattern pattern = LikePattern.compile(like, LIKE_ESCAPE);
+		return value -> value != null && pattern.matches(caseInsensitivity.value(value));
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <X extends Comparable<? super X>> Predicate<X> comparePredicate(X bound, int sign, boolean inclusive) {
+		Comparable canonicalBound = (Comparable) canonical(bound);
+		return value -> {
+			if (value == null) {
+				return false;
+			}
+			int compare = Integer.signum(((Comparable) canonical(value)).compareTo(canonicalBound));
+			return compare == sign || inclusive && compare == 0;
+		};
+	}
+
+	private static String escape(String value) {
+		StringBuilder escaped = new StringBuilder(value.length() + 4);
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+				escaped.append(LIKE_ESCAPE);
+			}
+			escaped.append(c);
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * @param <ENTITY> 엔티티의 유형
+	 * @return 여러 필터를 and 조건으로 묶는 빌더
+	 */
+	public static <ENTITY> Builder<ENTITY> builder() {
+		return new Builder<>(CaseInsensitivity.UPPER);
+	}
+
+	/**
+	 * @param caseInsensitivity startsWith, endsWith 조건에 사용하는 대소문자 비교 방법
+	 * @param <ENTITY>          엔티티의 유형
+	 * @return 여러 필터를 and 조건으로 묶는 빌더
+	 */
+	public static <ENTITY> Builder<ENTITY> builder(CaseInsensitivity caseInsensitivity) {
+		return new Builder<>(caseInsensitivity);
+	}
+
+	/**
+	 * 조회 기준의 여러 필터를 and 조건으로 묶습니다. {@code null}인 필터는 건너뜁니다.
+	 *
+	 * @param <ENTITY> 엔티티의 유형
+	 */
+	public static final class Builder<ENTITY> {
+
+		private final CaseInsensitivity caseInsensitivity;
+
+		private Predicate<ENTITY> predicate;
+
+		private Builder(CaseInsensitivity caseInsensitivity) {
+			this.caseInsensitivity = caseInsensitivity;
+		}
+
+		public <X> Builder<ENTITY> and(Filter<X> filter, Function<? super ENTITY, ? extends X> accessor) {
+			if (filter != null) {
+				Predicate<ENTITY> next = of(filter, accessor, caseInsensitivity);
+				predicate = predicate == null ? next : predicate.and(next);
+			}
+			return this;
+		}
+
+		public Predicate<ENTITY> build() {
+			return predicate == null ? entity -> true : predicate;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+
+import java.util.List;
+
+/**
+ * 조회 기준의 필드 하나에 지정된 필터의 사용 정보
+ *
+ * @see CriteriaProfile
+ */
+public final class FilterUsage {
+
+	private final String fieldName;
+	private final Filter<?> filter;
+	private final FilterShape shape;
+
+	FilterUsage(String fieldName, Filter<?> filter, FilterShape shape) {
+		this.fieldName = fieldName;
+		this.filter = filter;
+		this.shape = shape;
+	}
+
+	/**
+	 * @return 조회 기준 클래스의 필드 이름
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	public Filter<?> getFilter() {
+		return filter;
+	}
+
+	/**
+	 * @return 필터에 지정된 연산자의 조합
+	 */
+	public FilterShape getShape() {
+		return shape;
+	}
+
+	/**
+	 * @return in 목록의 크기, in이 지정되지 않았으면 -1
+	 */
+	public int getInSize() {
+		return size(filter.getIn());
+	}
+
+	/**
+	 * @return notIn 목록의 크기, notIn이 지정되지 않았으면 -1
+	 */
+	public int getNotInSize() {
+		return size(filter.getNotIn());
+	}
+
+	private static int size(List<?> values) {
+		return values == null ? -1 : values.size();
+	}
+
+	@Override
+	public String toString() {
+		return fieldName + '.' + shape;
+	}
+}
@@ -0,0 +1,217 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 기준 클래스와 필터 형태({@link CriteriaProfile#getShape()})별로 쿼리 수와 실행 시간을 집계하는 계측.
+ * 어떤 필드와 연산자가 함께 사용되고 그 조합이 얼마나 느린지 확인하여 {@link IndexAdvisor}로 인덱스 후보를 찾는 데 사용합니다.
+ * <p>
+ * 집계 값은 이 계측 인스턴스에만 있으며 {@link QueryService}가 직접 집계하지는 않습니다.
+ * {@link QueryService#getInstrumentation()}이 이 인스턴스를 반환하고,
+ * {@link QueryService#instrumented(com.nalutbae.jpa.criteria.Criteria, java.util.function.Function)}로 만든 사양을
+ * {@link CriteriaExecutor}로 실행한 쿼리만 집계됩니다. 저장소의 {@code findAll} 등으로 직접 실행한 쿼리는 집계되지 않습니다.
+ * 페이지 조회의 count 쿼리나 facet, 최솟값/최댓값 쿼리는 같은 형태의 조회를 한 번 더 세게 되어 쿼리 수와 실행 시간을 부풀리므로,
+ * 행을 조회하는 {@link QueryType#CONTENT} 쿼리만 집계합니다.
+ * <p>
+ * 집계하는 형태의 수는 생성할 때 지정한 개수로 제한되며, 가득 찬 뒤에 처음 나타난 형태는 {@link #getDroppedCount()}로만 집계됩니다.
+ * 쿼리마다 맵 조회 한 번과 {@link LongAdder} 갱신만 하므로 운영 환경에서 항상 켜 둘 수 있습니다.
+ */
+public class FilterUsageStatistics implements CriteriaInstrumentation {
+
+	private static final int DEFAULT_MAX_SHAPES = 1000;
+
+	private final int maxShapes;
+	private final AtomicInteger shapeCount = new AtomicInteger();
+	private final Map<Class<?>, Map<String, Counters>> counters = new ConcurrentHashMap<>();
+	private final LongAdder droppedCount = new LongAdder();
+
+	public FilterUsageStatistics() {
+		this(DEFAULT_MAX_SHAPES);
+	}
+
+	/**
+	 * @param maxShapes 집계할 조회 기준 클래스와 필터 형태 조합의 최대 개수
+	 */
+	public FilterUsageStatistics(int maxShapes) {
+		if (maxShapes <= 0) {
+			throw new IllegalArgumentException("maxShapes must be positive: " + maxShapes);
+		}
+		this.maxShapes = maxShapes;
+	}
+
+	@Override
+	public void queryExecuted(CriteriaProfile profile, QueryType type, long elapsedNanos, long resultCount) {
+		if (type != QueryType.CONTENT) {
+			return;
+		}
+		Counters shapeCounters = counters(profile);
+		if (shapeCounters != null) {
+			shapeCounters.record(elapsedNanos);
+		}
+	}
+
+	@Override
+	public void queryFailed(CriteriaProfile profile, QueryType type, long elapsedNanos, RuntimeException failure) {
+		if (type != QueryType.CONTENT) {
+			return;
+		}
+		Counters shapeCounters = counters(profile);
+		if (shapeCounters != null) {
+			shapeCounters.record(elapsedNanos);
+			shapeCounters.failureCount.increment();
+		}
+	}
+
+	/**
+	 * @return 집계한 형태별 통계, 전체 실행 시간이 긴 순서
+	 */
+	public List<ShapeStatistics> snapshot() {
+		List<ShapeStatistics> statistics = new ArrayList<>();
+		counters.forEach((criteriaType, shapes) -> shapes.forEach((shape, shapeCounters) ->
+				statistics.add(shapeCounters.snapshot(criteriaType.getName(), shape))));
+		statistics.sort(Comparator.comparingLong(ShapeStatistics::getTotalNanos).reversed());
+		return statistics;
+	}
+
+	/**
+	 * @return 집계할 수 있는 형태의 수를 넘어 집계하지 못한 쿼리의 수
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * 집계한 통계를 모두 지웁니다.
+	 */
+	public void reset() {
+		counters.clear();
+		shapeCount.set(0);
+		droppedCount.reset();
+	}
+
+	/**
+	 * 집계한 통계를 탭으로 구분된 텍스트로 기록합니다. 한 줄에 형태 하나씩
+	 * 조회 기준 클래스, 형태, 쿼리 수, 실패한 쿼리 수, 전체 실행 시간(나노초), 최대 실행 시간(나노초)을 기록하며,
+	 * 기록한 내용은 {@link IndexAdvisor#main(String[])}로 분석할 수 있습니다.
+	 *
+	 * @param out 기록할 대상
+	 * @throws IOException 기록에 실패한 경우
+	 */
+	public void writeTo(Appendable out) throws IOException {
+		for (ShapeStatistics statistics : snapshot()) {
+			out.append(statistics.getCriteriaType()).append('\t')
+					.append(statistics.getShape()).append('\t')
+					.append(Long.toString(statistics.getCount())).append('\t')
+					.append(Long.toString(statistics.getFailureCount())).append('\t')
+					.append(Long.toString(statistics.getTotalNanos())).append('\t')
+					.append(Long.toString(statistics.getMaxNanos())).append('\n');
+		}
+	}
+
+	private Counters counters(CriteriaProfile profile) {
+		Map<String, Counters> shapes = counters.computeIfAbsent(profile.getCriteriaType(), type -> new ConcurrentHashMap<>());
+		String shape = profile.getShape();
+		Counters shapeCounters = shapes.get(shape);
+		if (shapeCounters != null) {
+			return shapeCounters;
+		}
+		if (shapeCount.get() >= maxShapes) {
+			droppedCount.increment();
+			return null;
+		}
+		return shapes.computeIfAbsent(shape, key -> {
+			shapeCount.incrementAndGet();
+			return new Counters();
+		});
+	}
+
+	private static final class Counters {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder failureCount = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		void record(long elapsedNanos) {
+			count.increment();
+			totalNanos.add(elapsedNanos);
+			maxNanos.accumulate(elapsedNanos);
+		}
+
+		ShapeStatistics snapshot(String criteriaType, String shape) {
+			return new ShapeStatistics(criteriaType, shape, count.sum(), failureCount.sum(), totalNanos.sum(),
+					maxNanos.get());
+		}
+	}
+
+	/**
+	 * 조회 기준 클래스와 필터 형태 하나의 집계 결과
+	 */
+	public static final class ShapeStatistics {
+
+		private final String criteriaType;
+		private final String shape;
+		private final long count;
+		private final long failureCount;
+		private final long totalNanos;
+		private final long maxNanos;
+
+		ShapeStatistics(String criteriaType, String shape, long count, long failureCount, long totalNanos,
+						long maxNanos) {
+			this.criteriaType = criteriaType;
+			this.shape = shape;
+			this.count = count;
+			this.failureCount = failureCount;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+		}
+
+		/**
+		 * @return 조회 기준 클래스의 이름
+		 */
+		public String getCriteriaType() {
+			return criteriaType;
+		}
+
+		/**
+		 * @return 예: {@code createdAt.greaterThan+status.equals}
+		 * @see CriteriaProfile#getShape()
+		 */
+		public String getShape() {
+			return shape;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getFailureCount() {
+			return failureCount;
+		}
+
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		public long getMeanNanos() {
+			return count == 0 ? 0 : totalNanos / count;
+		}
+
+		@Override
+		public String toString() {
+			return criteriaType + '[' + shape + "] count=" + count + ", mean=" + getMeanNanos() + "ns, max=" + maxNanos + "ns";
+		}
+	}
+}
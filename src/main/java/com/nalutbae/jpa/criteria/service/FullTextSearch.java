@@ -0,0 +1,93 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Locale;
+
+/**
+ * {@link com.nalutbae.jpa.criteria.filter.StringFilter}의 fullText 조건을 데이터베이스의 전문 검색 기능으로 변환하는 SPI.
+ * JPA Criteria API로는 {@code @@}, {@code %}, {@code MATCH ... AGAINST} 같은 연산자를 직접 표현할 수 없으므로
+ * 데이터베이스 함수 호출로 변환합니다.
+ *
+ * @see QueryService#getFullTextSearch()
+ */
+@FunctionalInterface
+public interface FullTextSearch {
+
+	/**
+	 * 컬럼이 검색어와 일치하는 조건을 만듭니다.
+	 *
+	 * @param column  검색할 컬럼
+	 * @param text    사용자가 입력한 검색어
+	 * @param builder 조건을 만들 {@link CriteriaBuilder}
+	 * @return 전문 검색 조건
+	 */
+	Predicate toPredicate(Expression<String> column, String text, CriteriaBuilder builder);
+
+	/**
+	 * 전문 검색 기능이 없는 데이터베이스(테스트용 H2 등)를 위한 {@code upper(column) like '%TEXT%'} 조건
+	 *
+	 * @return LIKE 조건을 사용하는 검색
+	 */
+	static FullTextSearch like() {
+		return (column, text, builder) -> builder.like(builder.upper(column), "%" + text.toUpperCase(Locale.ROOT) + '%');
+	}
+
+	/**
+	 * {@code (컬럼, 검색어)}를 인자로 받아 boolean을 반환하는 데이터베이스 함수를 호출하는 조건.
+	 * PostgreSQL에서는 아래와 같은 SQL 함수를 만들면 실행 계획에서 연산자로 펼쳐지므로
+	 * {@code to_tsvector('english', column)} GIN 인덱스나 pg_trgm 인덱스를 그대로 사용할 수 있습니다.
+	 * <pre>
+	 *      create function fts_match(document text, query text) returns boolean as
+	 *      $$ select to_tsvector('english', document) @@ plainto_tsquery('english', query) $$
+	 *      language sql immutable;
+	 * </pre>
+	 * MySQL의 {@code MATCH ... AGAINST}처럼 함수로 만들 수 없는 구문은 JPA 구현체에 같은 이름의 함수를 등록하여 사용합니다.
+	 * (Hibernate의 경우 {@code FunctionContributor}로 {@code match_against}를
+	 * {@code MATCH(?1) AGAINST(?2 IN NATURAL LANGUAGE MODE)}로 등록합니다.)
+	 *
+	 * @param functionName 호출할 함수 이름
+	 * @return 함수를 호출하는 검색
+	 */
+	static FullTextSearch function(String functionName) {
+		return (column, text, builder) -> builder.isTrue(
+				builder.function(functionName, Boolean.class, column, builder.literal(text)));
+	}
+
+	/**
+	 * PostgreSQL의 {@code to_tsvector(column) @@ plainto_tsquery(text)} 조건.
+	 * 연산자 대신 같은 의미의 {@code ts_match_vq} 함수를 호출하며, 기본 검색 설정({@code default_text_search_config})을 사용합니다.
+	 * 인덱스를 사용하려면 {@link #function(String)}과 SQL 함수를 사용하세요.
+	 *
+	 * @return PostgreSQL 전문 검색
+	 */
+	static FullTextSearch postgresql() {
+		return (column, text, builder) -> builder.isTrue(builder.function("ts_match_vq", Boolean.class,
+				builder.function("to_tsvector", Object.class, column),
+				builder.function("plainto_tsquery", Object.class, builder.literal(text))));
+	}
+
+	/**
+	 * PostgreSQL pg_trgm 확장의 {@code column % text} 유사도 조건.
+	 * 연산자 대신 같은 의미의 {@code similarity_op} 함수를 호출합니다.
+	 * 인덱스를 사용하려면 {@link #function(String)}과 SQL 함수를 사용하세요.
+	 *
+	 * @return 트라이그램 유사도 검색
+	 */
+	static FullTextSearch trigram() {
+		return function("similarity_op");
+	}
+
+	/**
+	 * MySQL의 {@code MATCH(column) AGAINST(text IN NATURAL LANGUAGE MODE)} 조건.
+	 * JPA 구현체에 {@code match_against} 함수가 등록되어 있어야 합니다.
+	 *
+	 * @return MySQL 전문 검색
+	 * @see #function(String)
+	 */
+	static FullTextSearch mysql() {
+		return function("match_against");
+	}
+}
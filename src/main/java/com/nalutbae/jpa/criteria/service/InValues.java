@@ -0,0 +1,64 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code in}, {@code notIn} 조건에 바인딩할 값 목록을 다루는 유틸리티
+ */
+final class InValues {
+
+	private InValues() {
+	}
+
+	/**
+	 * 값 목록의 길이를 2의 거듭제곱으로 맞추기 위해 마지막 값을 반복하여 채웁니다.
+	 * 1~2개, 3~4개, 5~8개... 처럼 길이가 같은 구간의 요청은 같은 SQL 문장을 사용하게 됩니다.
+	 *
+	 * @param values 원본 값 목록
+	 * @param <X>    값의 유형
+	 * @return 길이가 2의 거듭제곱인 값 목록. 이미 길이가 2의 거듭제곱이면 원본 목록
+	 */
+	static <X> Collection<X> pad(Collection<X> values) {
+		int size = values.size();
+		if (size <= 1 || Integer.bitCount(size) == 1) {
+			return values;
+		}
+		int paddedSize = Integer.highestOneBit(size) << 1;
+		List<X> padded = new ArrayList<>(paddedSize);
+		X last = null;
+		for (X value : values) {
+			padded.add(value);
+			last = value;
+		}
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+		return padded;
+	}
+
+	/**
+	 * 값 목록을 최대 {@code chunkSize}개씩 나눕니다.
+	 *
+	 * @param values    원본 값 목록
+	 * @param chunkSize 나눌 목록 하나의 최대 길이
+	 * @param <X>       값의 유형
+	 * @return 나뉜 값 목록들
+	 */
+	static <X> List<List<X>> chunk(Collection<X> values, int chunkSize) {
+		List<List<X>> chunks = new ArrayList<>((values.size() + chunkSize - 1) / chunkSize);
+		List<X> chunk = new ArrayList<>(Math.min(chunkSize, values.size()));
+		for (X value : values) {
+			chunk.add(value);
+			if (chunk.size() == chunkSize) {
+				chunks.add(chunk);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+}
@@ -0,0 +1,316 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link FilterUsageStatistics}가 집계한 필터 형태에서 복합 인덱스 후보를 찾습니다.
+ * <ul>
+ *     <li>{@code equals}, {@code in}에 사용된 필드는 인덱스의 앞쪽 컬럼이 되며, 전체 실행 시간에서 자주 사용된 필드일수록 앞에 둡니다.</li>
+ *     <li>{@code greaterThan}, {@code lessThan}, {@code startsWith} 등 범위 조건에 사용된 필드 중 하나만 마지막 컬럼이 됩니다.</li>
+ *     <li>{@code notEquals}, {@code notIn}, {@code contains}처럼 인덱스 범위 검색에 사용할 수 없는 조건은 제외합니다.</li>
+ *     <li>다른 후보의 앞부분과 같은 후보는 그 후보에 합칩니다.</li>
+ * </ul>
+ * 후보는 처리할 수 있는 쿼리의 전체 실행 시간이 긴 순서로 반환됩니다. 필드의 선택도는 알 수 없으므로,
+ * 제안된 인덱스는 {@link #validate(Connection, String, IndexSuggestion, UnaryOperator)}나 실제 데이터로 확인한 뒤 적용하세요.
+ */
+public final class IndexAdvisor {
+
+	private static final Set<FilterOperator> EQUALITY_OPERATORS = EnumSet.of(FilterOperator.EQUALS, FilterOperator.IN);
+
+	private static final Set<FilterOperator> RANGE_OPERATORS = EnumSet.of(FilterOperator.GREATER_THAN,
+			FilterOperator.GREATER_THAN_OR_EQUAL, FilterOperator.LESS_THAN, FilterOperator.LESS_THAN_OR_EQUAL,
+			FilterOperator.STARTS_WITH);
+
+	private static final Map<String, FilterOperator> OPERATORS_BY_NAME = new HashMap<>();
+
+	static {
+		for (FilterOperator operator : FilterOperator.values()) {
+			OPERATORS_BY_NAME.put(operator.getParameterName(), operator);
+		}
+	}
+
+	private IndexAdvisor() {
+	}
+
+	/**
+	 * @param statistics 필터 형태별 집계 결과
+	 * @param limit      반환할 최대 후보 수
+	 * @return 처리할 수 있는 쿼리의 전체 실행 시간이 긴 순서로 나열한 인덱스 후보
+	 */
+	public static List<IndexSuggestion> advise(Collection<FilterUsageStatistics.ShapeStatistics> statistics, int limit) {
+		Map<String, List<FilterUsageStatistics.ShapeStatistics>> byCriteriaType = new LinkedHashMap<>();
+		for (FilterUsageStatistics.ShapeStatistics shapeStatistics : statistics) {
+			byCriteriaType.computeIfAbsent(shapeStatistics.getCriteriaType(), type -> new ArrayList<>()).add(shapeStatistics);
+		}
+		List<IndexSuggestion> suggestions = new ArrayList<>();
+		byCriteriaType.forEach((criteriaType, shapes) -> suggestions.addAll(advise(criteriaType, shapes)));
+		suggestions.sort(Comparator.comparingLong(IndexSuggestion::getTotalNanos).reversed());
+		return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+	}
+
+	private static List<IndexSuggestion> advise(String criteriaType, List<FilterUsageStatistics.ShapeStatistics> shapes) {
+		Map<String, Long> equalityWeights = new HashMap<>();
+		Map<String, Long> rangeWeights = new HashMap<>();
+		List<Map<String, Set<FilterOperator>>> parsed = new ArrayList<>(shapes.size());
+		for (FilterUsageStatistics.ShapeStatistics shapeStatistics : shapes) {
+			Map<String, Set<FilterOperator>> fields = parseShape(shapeStatistics.getShape());
+			parsed.add(fields);
+			fields.forEach((field, operators) -> {
+				if (isEquality(operators)) {
+					equalityWeights.merge(field, shapeStatistics.getTotalNanos(), Long::sum);
+				} else if (isRange(operators)) {
+					rangeWeights.merge(field, shapeStatistics.getTotalNanos(), Long::sum);
+				}
+			});
+		}
+
+		// 컬럼이 같아도 마지막 컬럼을 범위 조건으로 사용하는지에 따라 실행 계획이 다르므로 범위 필드도 키에 포함합니다.
+		Map<List<Object>, IndexSuggestion> candidates = new HashMap<>();
+		for (int i = 0; i < shapes.size(); i++) {
+			List<String> equalityFields = new ArrayList<>();
+			List<String> rangeFields = new ArrayList<>();
+			parsed.get(i).forEach((field, operators) -> {
+				if (isEquality(operators)) {
+					equalityFields.add(field);
+				} else if (isRange(operators)) {
+					rangeFields.add(field);
+				}
+			});
+			equalityFields.sort(byWeight(equalityWeights));
+			rangeFields.sort(byWeight(rangeWeights));
+			String rangeField = rangeFields.isEmpty() ? null : rangeFields.get(0);
+			if (equalityFields.isEmpty() && rangeField == null) {
+				continue;
+			}
+			IndexSuggestion candidate = new IndexSuggestion(criteriaType, equalityFields, rangeField);
+			candidates.computeIfAbsent(Arrays.asList(candidate.getEqualityFields(), rangeField), key -> candidate).add(shapes.get(i));
+		}
+
+		List<IndexSuggestion> ordered = new ArrayList<>(candidates.values());
+		ordered.sort(Comparator.comparingInt((IndexSuggestion suggestion) -> suggestion.getFields().size()).reversed()
+				.thenComparing(Comparator.comparingLong(IndexSuggestion::getTotalNanos).reversed()));
+		List<IndexSuggestion> kept = new ArrayList<>();
+		for (IndexSuggestion candidate : ordered) {
+			IndexSuggestion covering = null;
+			for (IndexSuggestion suggestion : kept) {
+				if (isPrefix(candidate.getFields(), suggestion.getFields())) {
+					covering = suggestion;
+					break;
+				}
+			}
+			if (covering == null) {
+				kept.add(candidate);
+			} else {
+				covering.addAll(candidate);
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * 인덱스를 만든 뒤 후보가 처리할 조건으로 {@code EXPLAIN}을 실행하여 실행 계획이 그 인덱스를 사용하는지 확인하고, 인덱스를 삭제합니다.
+	 * 조건의 값은 테이블의 첫 행에서 가져오므로 테이블에 데이터가 있어야 합니다.
+	 * 운영 데이터베이스가 아닌 H2 같은 내장 데이터베이스에서 사용하세요.
+	 * 테이블, 컬럼 이름은 SQL에 이어 붙이므로 영문자, 숫자, 밑줄로만 된 일반 식별자만 허용합니다.
+	 *
+	 * @param connection   데이터베이스 연결
+	 * @param table        테이블 이름
+	 * @param suggestion   확인할 인덱스 후보
+	 * @param columnNaming 필드 이름을 컬럼 이름으로 변환하는 함수
+	 * @return 실행 계획에 인덱스 이름이 나타나면 {@code true}
+	 * @throws SQLException 쿼리 실행에 실패한 경우
+	 * @throws IllegalArgumentException 테이블이나 컬럼 이름이 일반 식별자가 아닌 경우
+	 */
+	public static boolean validate(Connection connection, String table, IndexSuggestion suggestion,
+								   UnaryOperator<String> columnNaming) throws SQLException {
+		List<String> columns = suggestion.getFields().stream().map(columnNaming).map(IndexSuggestion::identifier).toList();
+		IndexSuggestion.tableName(table);
+		Object[] sample = sampleRow(connection, table, columns);
+		if (sample == null) {
+			throw new IllegalStateException("No row in " + table + " to validate " + suggestion);
+		}
+		StringBuilder sql = new StringBuilder("select * from ").append(table).append(" where ");
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				sql.append(" and ");
+			}
+			boolean range = suggestion.getRangeField() != null && i == columns.size() - 1;
+			sql.append(columns.get(i)).append(range ? " >= ?" : " = ?");
+		}
+		String indexName = suggestion.getIndexName(table, columnNaming);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(suggestion.toDdl(table, columnNaming));
+			try {
+				return explain(connection, sql.toString(), sample).toLowerCase(Locale.ROOT).contains(indexName.toLowerCase(Locale.ROOT));
+			} finally {
+				statement.execute("drop index " + indexName);
+			}
+		}
+	}
+
+	/**
+	 * @param connection 데이터베이스 연결
+	 * @param sql        실행 계획을 확인할 쿼리
+	 * @param parameters 쿼리의 파라미터
+	 * @return {@code EXPLAIN}의 결과를 줄 단위로 이어 붙인 문자열
+	 * @throws SQLException 쿼리 실행에 실패한 경우
+	 */
+	public static String explain(Connection connection, String sql, Object... parameters) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet resultSet = statement.executeQuery()) {
+				int columnCount = resultSet.getMetaData().getColumnCount();
+				while (resultSet.next()) {
+					for (int i = 1; i <= columnCount; i++) {
+						plan.append(resultSet.getString(i)).append(i < columnCount ? " " : "\n");
+					}
+				}
+			}
+			return plan.toString();
+		}
+	}
+
+	/**
+	 * {@link FilterUsageStatistics#writeTo(Appendable)}로 기록한 파일을 읽어 인덱스 후보를 출력합니다.
+	 * 테이블 이름은 조회 기준 클래스 이름에서 {@code Criteria}를 뺀 snake_case로 가정합니다.
+	 * <pre>
+	 *      java -cp ... com.nalutbae.jpa.criteria.service.IndexAdvisor filter-usage.tsv [limit]
+	 * </pre>
+	 *
+	 * @param args 집계 파일 경로, 출력할 최대 후보 수(기본값 10)
+	 * @throws IOException 파일을 읽지 못한 경우
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("usage: IndexAdvisor <filter-usage.tsv> [limit]");
+			System.exit(2);
+		}
+		int limit = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		List<FilterUsageStatistics.ShapeStatistics> statistics = read(Path.of(args[0]));
+		System.out.print(report(advise(statistics, limit)));
+	}
+
+	/**
+	 * @param suggestions 인덱스 후보
+	 * @return 후보별 처리할 수 있는 쿼리 수와 실행 시간, 인덱스 생성 DDL을 담은 보고서
+	 */
+	public static String report(List<IndexSuggestion> suggestions) {
+		StringBuilder report = new StringBuilder();
+		int rank = 1;
+		for (IndexSuggestion suggestion : suggestions) {
+			report.append('#').append(rank++).append(' ').append(suggestion.getCriteriaType())
+					.append(' ').append(suggestion.getFields())
+					.append(": ").append(suggestion.getCount()).append(" queries, total ")
+					.append(TimeUnit.NANOSECONDS.toMillis(suggestion.getTotalNanos())).append(" ms\n")
+					.append("    shapes: ").append(String.join(", ", suggestion.getShapes())).append('\n')
+					.append("    ").append(suggestion.toDdl(tableName(suggestion.getCriteriaType()))).append(";\n");
+		}
+		return report.toString();
+	}
+
+	static List<FilterUsageStatistics.ShapeStatistics> read(Path path) throws IOException {
+		List<FilterUsageStatistics.ShapeStatistics> statistics = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				String[] columns = line.split("\t");
+				if (columns.length != 6) {
+					throw new IOException("Malformed filter usage line: " + line);
+				}
+				statistics.add(new FilterUsageStatistics.ShapeStatistics(columns[0], columns[1],
+						Long.parseLong(columns[2]), Long.parseLong(columns[3]), Long.parseLong(columns[4]),
+						Long.parseLong(columns[5])));
+			}
+		}
+		return statistics;
+	}
+
+	private static Map<String, Set<FilterOperator>> parseShape(String shape) {
+		Map<String, Set<FilterOperator>> fields = new LinkedHashMap<>();
+		if ("empty".equals(shape)) {
+			return fields;
+		}
+		for (String part : shape.split("\\+")) {
+			int dot = part.lastIndexOf('.');
+			FilterOperator operator = dot < 0 ? null : OPERATORS_BY_NAME.get(part.substring(dot + 1));
+			if (operator == null) {
+				throw new IllegalArgumentException("Malformed filter shape: " + shape);
+			}
+			fields.computeIfAbsent(part.substring(0, dot), field -> EnumSet.noneOf(FilterOperator.class)).add(operator);
+		}
+		return fields;
+	}
+
+	private static boolean isEquality(Set<FilterOperator> operators) {
+		return operators.stream().anyMatch(EQUALITY_OPERATORS::contains);
+	}
+
+	private static boolean isRange(Set<FilterOperator> operators) {
+		return operators.stream().anyMatch(RANGE_OPERATORS::contains);
+	}
+
+	private static Comparator<String> byWeight(Map<String, Long> weights) {
+		return Comparator.comparingLong((String field) -> weights.getOrDefault(field, 0L)).reversed()
+				.thenComparing(Comparator.naturalOrder());
+	}
+
+	private static boolean isPrefix(List<String> prefix, List<String> fields) {
+		return prefix.size() <= fields.size() && fields.subList(0, prefix.size()).equals(prefix);
+	}
+
+	private static Object[] sampleRow(Connection connection, String table, List<String> columns) throws SQLException {
+		String sql = "select " + String.join(", ", columns) + " from " + table + " where "
+				+ String.join(" is not null and ", columns) + " is not null";
+		try (Statement statement = connection.createStatement()) {
+			statement.setMaxRows(1);
+			try (ResultSet resultSet = statement.executeQuery(sql)) {
+				if (!resultSet.next()) {
+					return null;
+				}
+				Object[] row = new Object[columns.size()];
+				for (int i = 0; i < row.length; i++) {
+					row[i] = resultSet.getObject(i + 1);
+				}
+				return row;
+			}
+		}
+	}
+
+	private static String tableName(String criteriaType) {
+		String simpleName = criteriaType.substring(criteriaType.lastIndexOf('.') + 1);
+		if (simpleName.endsWith("Criteria") && simpleName.length() > "Criteria".length()) {
+			simpleName = simpleName.substring(0, simpleName.length() - "Criteria".length());
+		}
+		return IndexSuggestion.snakeCase(simpleName);
+	}
+}
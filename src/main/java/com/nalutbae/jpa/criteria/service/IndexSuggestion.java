@@ -0,0 +1,179 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@link IndexAdvisor}가 제안하는 복합 인덱스.
+ * 동등 조건에 사용된 필드를 앞에, 범위 조건에 사용된 필드 하나를 마지막에 둡니다.
+ * 컬럼은 조회 기준의 필드 이름으로 표현하며, DDL로 만들 때 컬럼 이름으로 변환합니다.
+ */
+public final class IndexSuggestion {
+
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+	private final String criteriaType;
+	private final List<String> equalityFields;
+	private final String rangeField;
+	private final List<String> shapes = new ArrayList<>();
+	private long count;
+	private long totalNanos;
+
+	IndexSuggestion(String criteriaType, List<String> equalityFields, String rangeField) {
+		this.criteriaType = criteriaType;
+		this.equalityFields = List.copyOf(equalityFields);
+		this.rangeField = rangeField;
+	}
+
+	void add(FilterUsageStatistics.ShapeStatistics statistics) {
+		shapes.add(statistics.getShape());
+		count += statistics.getCount();
+		totalNanos += statistics.getTotalNanos();
+	}
+
+	void addAll(IndexSuggestion covered) {
+		shapes.addAll(covered.shapes);
+		count += covered.count;
+		totalNanos += covered.totalNanos;
+	}
+
+	/**
+	 * @return 조회 기준 클래스의 이름
+	 */
+	public String getCriteriaType() {
+		return criteriaType;
+	}
+
+	/**
+	 * @return 동등 조건({@code equals}, {@code in})에 사용된 필드, 인덱스의 앞쪽 컬럼
+	 */
+	public List<String> getEqualityFields() {
+		return equalityFields;
+	}
+
+	/**
+	 * @return 범위 조건({@code greaterThan}, {@code lessThan}, {@code startsWith} 등)에 사용된 필드, 없으면 {@code null}
+	 */
+	public String getRangeField() {
+		return rangeField;
+	}
+
+	/**
+	 * @return 인덱스 컬럼 순서대로 나열한 필드
+	 */
+	public List<String> getFields() {
+		if (rangeField == null) {
+			return equalityFields;
+		}
+		List<String> fields = new ArrayList<>(equalityFields);
+		fields.add(rangeField);
+		return fields;
+	}
+
+	/**
+	 * @return 이 인덱스로 처리할 수 있는 필터 형태
+	 */
+	public List<String> getShapes() {
+		return Collections.unmodifiableList(shapes);
+	}
+
+	/**
+	 * @return 이 인덱스로 처리할 수 있는 쿼리의 수
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return 이 인덱스로 처리할 수 있는 쿼리의 전체 실행 시간(나노초)
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @param table        테이블 이름
+	 * @param columnNaming 필드 이름을 컬럼 이름으로 변환하는 함수
+	 * @return 예: {@code idx_example_status_created_at}
+	 */
+	public String getIndexName(String table, UnaryOperator<String> columnNaming) {
+		return identifier("idx_" + table.replace('.', '_') + '_'
+				+ getFields().stream().map(columnNaming).map(IndexSuggestion::identifier).collect(Collectors.joining("_")));
+	}
+
+	/**
+	 * 필드 이름을 snake_case 컬럼 이름으로 변환하여 인덱스 생성 DDL을 만듭니다.
+	 *
+	 * @param table 테이블 이름
+	 * @return 예: {@code create index idx_example_status_created_at on example (status, created_at)}
+	 */
+	public String toDdl(String table) {
+		return toDdl(table, IndexSuggestion::snakeCase);
+	}
+
+	/**
+	 * @param table        테이블 이름
+	 * @param columnNaming 필드 이름을 컬럼 이름으로 변환하는 함수
+	 * @return 인덱스 생성 DDL
+	 * @throws IllegalArgumentException 테이블이나 컬럼 이름이 영문자, 숫자, 밑줄로만 된 일반 식별자가 아닌 경우
+	 */
+	public String toDdl(String table, UnaryOperator<String> columnNaming) {
+		return "create index " + getIndexName(table, columnNaming) + " on " + tableName(table) + " ("
+				+ getFields().stream().map(columnNaming).map(IndexSuggestion::identifier).collect(Collectors.joining(", ")) + ')';
+	}
+
+	/**
+	 * SQL에 그대로 이어 붙일 수 있는 식별자인지 확인합니다.
+	 * 이름은 집계 파일처럼 외부에서 읽은 값일 수 있으므로, 따옴표로 감싸는 대신 영문자, 숫자, 밑줄로만 된 이름만 허용합니다.
+	 *
+	 * @param name 테이블, 컬럼 또는 인덱스 이름
+	 * @return {@code name}
+	 * @throws IllegalArgumentException 일반 식별자가 아닌 경우
+	 */
+	static String identifier(String name) {
+		if (!IDENTIFIER.matcher(name).matches()) {
+			throw new IllegalArgumentException("Not a plain SQL identifier: " + name);
+		}
+		return name;
+	}
+
+	/**
+	 * @return 스키마를 포함할 수 있는 테이블 이름, 각 부분은 일반 식별자여야 합니다.
+	 */
+	static String tableName(String table) {
+		for (String part : table.split("\\.", -1)) {
+			identifier(part);
+		}
+		return table;
+	}
+
+	/**
+	 * @param name 필드 또는 클래스 이름
+	 * @return 예: {@code createdAt → created_at}
+	 */
+	static String snakeCase(String name) {
+		StringBuilder builder = new StringBuilder(name.length() + 4);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isUpperCase(c)) {
+				if (i > 0) {
+					builder.append('_');
+				}
+				builder.append(Character.toLowerCase(c));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public String toString() {
+		return criteriaType + getFields() + " count=" + count + ", shapes=" + shapes;
+	}
+}
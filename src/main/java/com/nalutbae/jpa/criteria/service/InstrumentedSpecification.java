@@ -0,0 +1,87 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 조건 변환을 계측하고, {@link CriteriaExecutor}가 쿼리 실행을 계측할 수 있도록 조회 기준의 요약을 함께 전달하는 사양
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ * @see QueryService#instrumented(com.nalutbae.jpa.criteria.Criteria, java.util.function.Function)
+ */
+final class InstrumentedSpecification<ENTITY> implements Specification<ENTITY> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Specification<ENTITY> delegate;
+
+	private final transient CriteriaProfile profile;
+
+	private final transient CriteriaInstrumentation instrumentation;
+
+	InstrumentedSpecification(Specification<ENTITY> delegate, CriteriaProfile profile,
+							  CriteriaInstrumentation instrumentation) {
+		this.delegate = delegate;
+		this.profile = profile;
+		this.instrumentation = instrumentation;
+	}
+
+	@Override
+	public Predicate toPredicate(Root<ENTITY> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+		if (delegate == null) {
+			return null;
+		}
+		long start = System.nanoTime();
+		Predicate predicate = delegate.toPredicate(root, query, criteriaBuilder);
+		long elapsed = System.nanoTime() - start;
+		instrumentation.predicateCreated(profile, elapsed, countPredicates(predicate), countJoins(root));
+		return predicate;
+	}
+
+	/**
+	 * 실행기가 구간 조건처럼 내부에서 조건을 덧붙여도 쿼리 실행이 계측되도록, 같은 요약과 계측을 가진 사양을 반환합니다.
+	 */
+	@Override
+	public Specification<ENTITY> and(Specification<ENTITY> other) {
+		if (other == null) {
+			return this;
+		}
+		return new InstrumentedSpecification<>(delegate == null ? other : delegate.and(other), profile, instrumentation);
+	}
+
+	CriteriaProfile getProfile() {
+		return profile;
+	}
+
+	CriteriaInstrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	private static int countPredicates(Expression<Boolean> expression) {
+		if (expression == null) {
+			return 0;
+		}
+		if (!(expression instanceof Predicate predicate) || predicate.getExpressions().isEmpty()) {
+			return 1;
+		}
+		int count = 0;
+		for (Expression<Boolean> child : predicate.getExpressions()) {
+			count += countPredicates(child);
+		}
+		return count;
+	}
+
+	private static int countJoins(From<?, ?> from) {
+		int count = 0;
+		for (Join<?, ?> join : from.getJoins()) {
+			count += 1 + countJoins(join);
+		}
+		return count;
+	}
+}
@@ -0,0 +1,63 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * 스트림으로 조회하는 쿼리의 실행을 계측하는 {@link Spliterator}.
+ * 스트림은 소비하는 동안 행을 가져오므로, 쿼리를 연 시점부터 스트림을 닫을 때까지의 시간과 내보낸 행의 수를
+ * 닫을 때 {@link CriteriaInstrumentation#queryExecuted}로 한 번 기록합니다.
+ * 행을 가져오다 예외가 발생하면 {@link CriteriaInstrumentation#queryFailed}만 기록합니다.
+ *
+ * @param <T> 항목의 유형
+ */
+final class InstrumentedSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+	private final Spliterator<T> delegate;
+
+	private final InstrumentedSpecification<?> specification;
+
+	private final long start;
+
+	private long count;
+
+	private boolean recorded;
+
+	InstrumentedSpliterator(Spliterator<T> delegate, InstrumentedSpecification<?> specification, long start) {
+		super(delegate.estimateSize(), delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+		this.delegate = delegate;
+		this.specification = specification;
+		this.start = start;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		boolean advanced;
+		try {
+			advanced = delegate.tryAdvance(action);
+		} catch (RuntimeException e) {
+			if (!recorded) {
+				recorded = true;
+				specification.getInstrumentation().queryFailed(specification.getProfile(), QueryType.CONTENT,
+						System.nanoTime() - start, e);
+			}
+			throw e;
+		}
+		if (advanced) {
+			count++;
+		}
+		return advanced;
+	}
+
+	/**
+	 * 스트림이 닫힐 때 호출되며, 실패를 기록하지 않았다면 실행을 기록합니다.
+	 */
+	void close() {
+		if (!recorded) {
+			recorded = true;
+			specification.getInstrumentation().queryExecuted(specification.getProfile(), QueryType.CONTENT,
+					System.nanoTime() - start, count);
+		}
+	}
+}
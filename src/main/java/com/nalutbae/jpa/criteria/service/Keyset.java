@@ -0,0 +1,99 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이지네이션의 정렬 기준.
+ * 값이 {@code null}이 아닌 정렬 컬럼과, 같은 정렬 값 사이의 순서를 결정하는 고유한 식별자 컬럼으로 구성됩니다.
+ * <pre>
+ *      Keyset.of(Example_.createdAt, Example::getCreatedAt, Example_.id, Example::getId).descending()
+ * </pre>
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ * @param <S>      정렬 컬럼의 유형
+ * @param <ID>     식별자의 유형
+ * @see QueryService#buildKeysetSpecification(Keyset, KeysetCursor)
+ */
+public final class Keyset<ENTITY, S extends Comparable<? super S>, ID extends Comparable<? super ID>> {
+
+	private final SingularAttribute<? super ENTITY, S> sortField;
+	private final Function<ENTITY, S> sortGetter;
+	private final SingularAttribute<? super ENTITY, ID> idField;
+	private final Function<ENTITY, ID> idGetter;
+	private final boolean ascending;
+
+	private Keyset(SingularAttribute<? super ENTITY, S> sortField, Function<ENTITY, S> sortGetter,
+				   SingularAttribute<? super ENTITY, ID> idField, Function<ENTITY, ID> idGetter, boolean ascending) {
+		this.sortField = sortField;
+		this.sortGetter = sortGetter;
+		this.idField = idField;
+		this.idGetter = idGetter;
+		this.ascending = ascending;
+	}
+
+	/**
+	 * 오름차순 키셋을 만듭니다.
+	 *
+	 * @param sortField  정렬 컬럼을 나타내는 JPA 메타모델
+	 * @param sortGetter 엔티티에서 정렬 컬럼 값을 가져오는 함수
+	 * @param idField    식별자 컬럼을 나타내는 JPA 메타모델
+	 * @param idGetter   엔티티에서 식별자 값을 가져오는 함수
+	 * @param <ENTITY>   쿼리할 엔티티
+	 * @param <S>        정렬 컬럼의 유형
+	 * @param <ID>       식별자의 유형
+	 * @return 오름차순 키셋
+	 */
+	public static <ENTITY, S extends Comparable<? super S>, ID extends Comparable<? super ID>> Keyset<ENTITY, S, ID> of(
+			SingularAttribute<? super ENTITY, S> sortField, Function<ENTITY, S> sortGetter,
+			SingularAttribute<? super ENTITY, ID> idField, Function<ENTITY, ID> idGetter) {
+		return new Keyset<>(sortField, sortGetter, idField, idGetter, true);
+	}
+
+	/**
+	 * @return 같은 컬럼을 내림차순으로 정렬하는 키셋
+	 */
+	public Keyset<ENTITY, S, ID> descending() {
+		return new Keyset<>(sortField, sortGetter, idField, idGetter, false);
+	}
+
+	/**
+	 * @return 같은 컬럼을 오름차순으로 정렬하는 키셋
+	 */
+	public Keyset<ENTITY, S, ID> ascending() {
+		return new Keyset<>(sortField, sortGetter, idField, idGetter, true);
+	}
+
+	/**
+	 * 엔티티 위치를 나타내는 커서를 만듭니다. 페이지의 마지막 엔티티로 다음 페이지 커서를 만들 때 사용합니다.
+	 *
+	 * @param entity 커서가 가리킬 엔티티
+	 * @return 커서
+	 */
+	public KeysetCursor<S, ID> cursorOf(ENTITY entity) {
+		return new KeysetCursor<>(sortGetter.apply(entity), idGetter.apply(entity));
+	}
+
+	/**
+	 * 커서 문자열을 이 키셋의 컬럼 유형으로 해석합니다.
+	 *
+	 * @param cursor 커서 문자열
+	 * @return 해석된 커서, 첫 페이지이면 {@code null}
+	 */
+	public KeysetCursor<S, ID> decode(String cursor) {
+		return KeysetCursor.decode(cursor, sortField.getJavaType(), idField.getJavaType());
+	}
+
+	public SingularAttribute<? super ENTITY, S> getSortField() {
+		return sortField;
+	}
+
+	public SingularAttribute<? super ENTITY, ID> getIdField() {
+		return idField;
+	}
+
+	public boolean isAscending() {
+		return ascending;
+	}
+}
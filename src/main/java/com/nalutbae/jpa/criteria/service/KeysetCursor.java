@@ -0,0 +1,147 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 키셋(seek) 페이지네이션에서 이전 페이지의 마지막 행 위치를 나타내는 커서.
+ * 정렬 컬럼의 값과 식별자 값을 가지며, 프론트엔드에는 {@link #encode()}로 만든 불투명한 문자열로 전달합니다.
+ *
+ * @param <S>  정렬 컬럼의 유형
+ * @param <ID> 식별자의 유형
+ * @see Keyset
+ */
+public final class KeysetCursor<S extends Comparable<? super S>, ID extends Comparable<? super ID>> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final char SEPARATOR = '.';
+
+	private final S sortValue;
+
+	private final ID id;
+
+	public KeysetCursor(S sortValue, ID id) {
+		this.sortValue = Objects.requireNonNull(sortValue, "sortValue");
+		this.id = Objects.requireNonNull(id, "id");
+	}
+
+	public S getSortValue() {
+		return sortValue;
+	}
+
+	public ID getId() {
+		return id;
+	}
+
+	/**
+	 * @return URL에 그대로 사용할 수 있는 커서 문자열
+	 */
+	public String encode() {
+		return encodeValue(sortValue) + SEPARATOR + encodeValue(id);
+	}
+
+	/**
+	 * {@link #encode()}로 만든 커서 문자열을 해석합니다.
+	 *
+	 * @param cursor    커서 문자열. {@code null}이거나 비어 있으면 첫 페이지를 의미합니다.
+	 * @param sortType  정렬 컬럼의 유형
+	 * @param idType    식별자의 유형
+	 * @param <S>       정렬 컬럼의 유형
+	 * @param <ID>      식별자의 유형
+	 * @return 해석된 커서, 첫 페이지이면 {@code null}
+	 * @throws IllegalArgumentException 커서 문자열의 형식이 올바르지 않은 경우
+	 */
+	public static <S extends Comparable<? super S>, ID extends Comparable<? super ID>> KeysetCursor<S, ID> decode(
+			String cursor, Class<S> sortType, Class<ID> idType) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		int separator = cursor.indexOf(SEPARATOR);
+		if (separator < 0) {
+			throw new IllegalArgumentException("Invalid keyset cursor: " + cursor);
+		}
+		try {
+			return new KeysetCursor<>(decodeValue(cursor.substring(0, separator), sortType),
+					decodeValue(cursor.substring(separator + 1), idType));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid keyset cursor: " + cursor, e);
+		}
+	}
+
+	private static String encodeValue(Object value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T decodeValue(String encoded, Class<T> rawType) {
+		Class<T> type = (Class<T>) MethodType.methodType(rawType).wrap().returnType();
+		String text = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+		Object value;
+		if (type == String.class) {
+			value = text;
+		} else if (type == Long.class) {
+			value = Long.valueOf(text);
+		} else if (type == Integer.class) {
+			value = Integer.valueOf(text);
+		} else if (type == Short.class) {
+			value = Short.valueOf(text);
+		} else if (type == Double.class) {
+			value = Double.valueOf(text);
+		} else if (type == Float.class) {
+			value = Float.valueOf(text);
+		} else if (type == BigDecimal.class) {
+			value = new BigDecimal(text);
+		} else if (type == Boolean.class) {
+			value = Boolean.valueOf(text);
+		} else if (type == UUID.class) {
+			value = UUID.fromString(text);
+		} else if (type == Instant.class) {
+			value = Instant.parse(text);
+		} else if (type == LocalDate.class) {
+			value = LocalDate.parse(text);
+		} else if (type == LocalDateTime.class) {
+			value = LocalDateTime.parse(text);
+		} else if (type == ZonedDateTime.class) {
+			value = ZonedDateTime.parse(text);
+		} else {
+			throw new IllegalArgumentException("Unsupported keyset cursor type: " + type.getName());
+		}
+		return type.cast(value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		KeysetCursor<?, ?> that = (KeysetCursor<?, ?>) o;
+		return Objects.equals(sortValue, that.sortValue) &&
+				Objects.equals(id, that.id);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode() {
+		return Objects.hash(sortValue, id);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return "KeysetCursor [sortValue=" + sortValue + ", id=" + id + "]";
+	}
+}
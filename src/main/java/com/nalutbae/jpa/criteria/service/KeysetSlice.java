@@ -0,0 +1,34 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션으로 조회한 한 페이지의 결과
+ *
+ * @param <T> 결과 항목의 유형
+ */
+public final class KeysetSlice<T> {
+
+	private final List<T> content;
+	private final String nextCursor;
+
+	public KeysetSlice(List<T> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return 다음 페이지를 조회할 커서 문자열, 마지막 페이지이면 {@code null}
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
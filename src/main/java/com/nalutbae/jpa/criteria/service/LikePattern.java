@@ -0,0 +1,53 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL LIKE 패턴을 자바 정규식으로 변환하여 메모리에서 같은 의미로 비교합니다.
+ */
+final class LikePattern {
+
+	private static final char NO_ESCAPE = 0;
+
+	private final Pattern pattern;
+
+	private LikePattern(Pattern pattern) {
+		this.pattern = pattern;
+	}
+
+	/**
+	 * @param like   LIKE 패턴. {@code %}는 0개 이상의 문자, {@code _}는 1개의 문자와 일치합니다.
+	 * @param escape 이스케이프 문자, 0이면 이스케이프를 사용하지 않습니다.
+	 * @return 변환된 패턴
+	 */
+	static LikePattern compile(String like, char escape) {
+		StringBuilder regex = new StringBuilder(like.length() + 8);
+		StringBuilder literal = new StringBuilder();
+		for (int i = 0; i < like.length(); i++) {
+			char c = like.charAt(i);
+			if (escape != NO_ESCAPE && c == escape && i + 1 < like.length()) {
+				literal.append(like.charAt(++i));
+			} else if (c == '%' || c == '_') {
+				if (literal.length() > 0) {
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				regex.append(c == '%' ? ".*" : ".");
+			} else {
+				literal.append(c);
+			}
+		}
+		if (literal.length() > 0) {
+			regex.append(Pattern.quote(literal.toString()));
+		}
+		return new LikePattern(Pattern.compile(regex.toString(), Pattern.DOTALL));
+	}
+
+	static LikePattern compile(String like) {
+		return compile(like, NO_ESCAPE);
+	}
+
+	boolean matches(String value) {
+		return pattern.matcher(value).matches();
+	}
+}
@@ -0,0 +1,12 @@
+package com.nalutbae.jpa.criteria.service;
+
+/**
+ * 아무것도 기록하지 않는 계측
+ */
+final class NoopCriteriaInstrumentation implements CriteriaInstrumentation {
+
+	static final NoopCriteriaInstrumentation INSTANCE = new NoopCriteriaInstrumentation();
+
+	private NoopCriteriaInstrumentation() {
+	}
+}
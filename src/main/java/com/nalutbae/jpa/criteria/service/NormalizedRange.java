@@ -0,0 +1,198 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link RangeFilter}의 범위 조건을 하나의 구간으로 정리한 결과.
+ * <ul>
+ *     <li>greaterThan/greaterThanOrEqual 중 더 좁은 하한, lessThan/lessThanOrEqual 중 더 좁은 상한만 남깁니다.</li>
+ *     <li>상한이나 하한이 있으면 null 값은 어차피 제외되므로 {@code exists=true}를 제거하고,
+ *     {@code exists=false}는 빈 구간으로 판단합니다.</li>
+ *     <li>구간 밖의 notEquals, notIn 값은 결과에 영향을 주지 않으므로 제거합니다.</li>
+ *     <li>하한이 상한보다 크거나, 같은 값을 제외하는 구간은 빈 구간으로 판단합니다.</li>
+ *     <li>null 값은 notEquals, notIn 조건을 만족하지 않으므로 {@code exists=false}와 함께 사용되면 빈 구간으로 판단합니다.</li>
+ * </ul>
+ * equals, in 조건은 다른 조건보다 우선하므로 정리 대상이 아닙니다.
+ *
+ * @param <X> 필터링되는 속성의 유형
+ */
+public final class NormalizedRange<X extends Comparable<? super X>> {
+
+	private static final NormalizedRange<?> EMPTY = new NormalizedRange<>(true, null, false, null, false, null, null, null);
+
+	private final boolean empty;
+	private final X lower;
+	private final boolean lowerInclusive;
+	private final X upper;
+	private final boolean upperInclusive;
+	private final X notEquals;
+	private final List<X> notIn;
+	private final Boolean exists;
+
+	private NormalizedRange(boolean empty, X lower, boolean lowerInclusive, X upper, boolean upperInclusive,
+							X notEquals, List<X> notIn, Boolean exists) {
+		this.empty = empty;
+		this.lower = lower;
+		this.lowerInclusive = lowerInclusive;
+		this.upper = upper;
+		this.upperInclusive = upperInclusive;
+		this.notEquals = notEquals;
+		this.notIn = notIn;
+		this.exists = exists;
+	}
+
+	/**
+	 * 필터의 범위 조건을 정리합니다.
+	 *
+	 * @param filter 정리할 필터, equals와 in 조건은 무시합니다.
+	 * @param <X>    필터링되는 속성의 유형
+	 * @return 정리된 구간
+	 */
+	public static <X extends Comparable<? super X>> NormalizedRange<X> of(RangeFilter<X> filter) {
+		X lower = filter.getGreaterThan();
+		boolean lowerInclusive = false;
+		X greaterThanOrEqual = filter.getGreaterThanOrEqual();
+		if (greaterThanOrEqual != null && (lower == null || greaterThanOrEqual.compareTo(lower) > 0)) {
+			lower = greaterThanOrEqual;
+			lowerInclusive = true;
+		}
+		X upper = filter.getLessThan();
+		boolean upperInclusive = false;
+		X lessThanOrEqual = filter.getLessThanOrEqual();
+		if (lessThanOrEqual != null && (upper == null || lessThanOrEqual.compareTo(upper) < 0)) {
+			upper = lessThanOrEqual;
+			upperInclusive = true;
+		}
+
+		boolean bounded = lower != null || upper != null;
+		Boolean exists = filter.getExists();
+		if (bounded && exists != null) {
+			if (!exists) {
+				return empty();
+			}
+			exists = null;
+		}
+		if (lower != null && upper != null) {
+			int compare = lower.compareTo(upper);
+			if (compare > 0 || compare == 0 && !(lowerInclusive && upperInclusive)) {
+				return empty();
+			}
+		}
+
+		X notEquals = filter.getNotEquals();
+		List<X> notIn = filter.getNotIn();
+		if (Boolean.FALSE.equals(exists) && (notEquals != null || notIn != null && !notIn.isEmpty())) {
+			// null 값은 notEquals, notIn 조건을 만족하지 않습니다.
+			return empty();
+		}
+		if (notEquals != null && bounded) {
+			if (isPoint(lower, upper) && notEquals.compareTo(lower) == 0) {
+				return empty();
+			}
+			if (!contains(notEquals, lower, lowerInclusive, upper, upperInclusive)) {
+				notEquals = null;
+			}
+		}
+		if (notIn != null && bounded) {
+			boolean point = isPoint(lower, upper);
+			List<X> inRange = new ArrayList<>(notIn.size());
+			for (X value : notIn) {
+				if (value == null) {
+					inRange.add(null);
+				} else if (contains(value, lower, lowerInclusive, upper, upperInclusive)) {
+					if (point) {
+						return empty();
+					}
+					inRange.add(value);
+				}
+			}
+			notIn = inRange.isEmpty() ? null : inRange;
+		}
+		return new NormalizedRange<>(false, lower, lowerInclusive, upper, upperInclusive, notEquals, notIn, exists);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <X extends Comparable<? super X>> NormalizedRange<X> empty() {
+		return (NormalizedRange<X>) EMPTY;
+	}
+
+	private static <X extends Comparable<? super X>> boolean isPoint(X lower, X upper) {
+		return lower != null && upper != null && lower.compareTo(upper) == 0;
+	}
+
+	private static <X extends Comparable<? super X>> boolean contains(X value, X lower, boolean lowerInclusive,
+																	  X upper, boolean upperInclusive) {
+		if (lower != null) {
+			int compare = value.compareTo(lower);
+			if (compare < 0 || compare == 0 && !lowerInclusive) {
+				return false;
+			}
+		}
+		if (upper != null) {
+			int compare = value.compareTo(upper);
+			return compare < 0 || compare == 0 && upperInclusive;
+		}
+		return true;
+	}
+
+	/**
+	 * @return 어떤 값도 만족할 수 없는 구간이면 {@code true}
+	 */
+	public boolean isEmpty() {
+		return empty;
+	}
+
+	/**
+	 * @return 하한과 상한이 같은 값을 포함하는 한 점이면 {@code true}
+	 */
+	public boolean isPoint() {
+		return isPoint(lower, upper);
+	}
+
+	public X getLower() {
+		return lower;
+	}
+
+	public boolean isLowerInclusive() {
+		return lowerInclusive;
+	}
+
+	public X getUpper() {
+		return upper;
+	}
+
+	public boolean isUpperInclusive() {
+		return upperInclusive;
+	}
+
+	public X getNotEquals() {
+		return notEquals;
+	}
+
+	public List<X> getNotIn() {
+		return notIn;
+	}
+
+	public Boolean getExists() {
+		return exists;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		if (empty) {
+			return "NormalizedRange [empty]";
+		}
+		return "NormalizedRange ["
+				+ (lower != null ? (lowerInclusive ? "[" : "(") + lower : "(-∞")
+				+ ", "
+				+ (upper != null ? upper + (upperInclusive ? "]" : ")") : "+∞)")
+				+ (notEquals != null ? ", notEquals=" + notEquals : "")
+				+ (notIn != null ? ", notIn=" + notIn : "")
+				+ (exists != null ? ", exists=" + exists : "")
+				+ "]";
+	}
+}
@@ -0,0 +1,301 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 대량 내보내기를 위해 id나 시각 같은 키 속성의 범위를 여러 구간으로 나누어 동시에 조회하는 도우미.
+ * <p>
+ * 조회 사양에 해당하는 키의 최솟값과 최댓값을 하나의 쿼리로 구한 뒤 {@code partitions}개의 구간으로 나누고,
+ * 각 구간을 {@code executor}의 스레드에서 새 읽기 전용 트랜잭션(각자의 데이터베이스 연결)으로 스트리밍 조회합니다.
+ * 결과는 구간 순서대로 이어 붙여 키의 오름차순으로 반환하며, 뒤쪽 구간은 앞 구간을 소비하는 동안 미리 읽어 둡니다.
+ * <ul>
+ *     <li>키 속성은 {@link Long}, {@link Integer}, {@link Short}, {@link Instant}, {@link LocalDateTime}, {@link LocalDate} 유형이어야 하며,
+ *     키가 {@code null}인 행은 조회되지 않습니다.</li>
+ *     <li>최솟값과 최댓값을 구한 이후에 추가된 범위 밖의 행은 조회되지 않습니다.</li>
+ *     <li>엔티티는 다른 스레드의 영속성 컨텍스트에서 조회되어 분리(detach)된 상태로 전달되므로 지연 로딩 연관은 사용할 수 없습니다.</li>
+ *     <li>시작된 구간은 앞 구간이 모두 소비될 때까지 트랜잭션과 데이터베이스 연결을 열어 둔 채 기다립니다.
+ *     스트림을 닫을 때까지 최대 {@code partitions}개의 연결을 사용하므로 연결 풀의 크기를 고려하세요.</li>
+ *     <li>{@code executor}가 구간 작업을 거부하면 이미 시작한 구간을 멈추고 예외를 그대로 던집니다.</li>
+ *     <li>{@link QueryService#instrumented}로 만든 사양이면 최솟값/최댓값 쿼리와 구간마다의 스트리밍 조회가 같은 요약으로 계측됩니다.</li>
+ * </ul>
+ * 반환된 스트림은 반드시 닫아야 하며, 닫으면 아직 진행 중인 구간 조회도 멈춥니다.
+ * <pre>
+ *      try (Stream&lt;Example&gt; stream = scanExecutor.stream(createSpecification(criteria), Example_.id, 8)) {
+ *          stream.forEach(writer::write);
+ *      }
+ * </pre>
+ *
+ * @param <ENTITY> 쿼리할 엔티티
+ */
+public class PartitionedScanExecutor<ENTITY> {
+
+	private static final Object END = new Object();
+
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final CriteriaExecutor<ENTITY> criteriaExecutor;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Executor executor;
+
+	private final int fetchSize;
+
+	/**
+	 * @param criteriaExecutor   쿼리를 실행할 도우미, Spring이 주입한 공유 {@code EntityManager}로 만들어야 합니다.
+	 * @param transactionManager 각 구간의 트랜잭션을 시작할 트랜잭션 관리자
+	 * @param executor           구간을 조회할 스레드, 동시에 실행할 구간 수만큼의 스레드가 필요합니다.
+	 */
+	public PartitionedScanExecutor(CriteriaExecutor<ENTITY> criteriaExecutor, PlatformTransactionManager transactionManager,
+								   Executor executor) {
+		this(criteriaExecutor, transactionManager, executor, CriteriaExecutor.DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * @param criteriaExecutor   쿼리를 실행할 도우미, Spring이 주입한 공유 {@code EntityManager}로 만들어야 합니다.
+	 * @param transactionManager 각 구간의 트랜잭션을 시작할 트랜잭션 관리자
+	 * @param executor           구간을 조회할 스레드, 동시에 실행할 구간 수만큼의 스레드가 필요합니다.
+	 * @param fetchSize          JDBC fetch size, 구간마다 미리 읽어 둘 수 있는 엔티티 수이기도 합니다.
+	 */
+	public PartitionedScanExecutor(CriteriaExecutor<ENTITY> criteriaExecutor, PlatformTransactionManager transactionManager,
+								   Executor executor, int fetchSize) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+		}
+		this.criteriaExecutor = criteriaExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.executor = executor;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * 키 범위를 나누어 동시에 조회하고, 키의 오름차순으로 이어 붙인 스트림을 반환합니다.
+	 *
+	 * @param specification 조회 사양
+	 * @param key           범위를 나눌 키 속성
+	 * @param partitions    구간 수
+	 * @param <X>           키의 유형
+	 * @return 조회 결과 스트림
+	 */
+	public <X extends Comparable<? super X>> Stream<ENTITY> stream(Specification<ENTITY> specification,
+																   SingularAttribute<? super ENTITY, X> key, int partitions) {
+		if (partitions <= 0) {
+			throw new IllegalArgumentException("partitions must be positive: " + partitions);
+		}
+		List<X> bounds = transactionTemplate.execute(status -> criteriaExecutor.bounds(specification, key));
+		X lower = bounds.get(0);
+		X upper = bounds.get(1);
+		if (lower == null || upper == null) {
+			return Stream.empty();
+		}
+		List<X> boundaries = split(lower, upper, partitions);
+		Sort sort = Sort.by(key.getName());
+		PartitionIterator iterator = new PartitionIterator(boundaries.size() - 1);
+		try {
+			for (int i = 0; i + 1 < boundaries.size(); i++) {
+				X from = boundaries.get(i);
+				X to = boundaries.get(i + 1);
+				boolean last = i + 2 == boundaries.size();
+				Specification<ENTITY> partition = (root, query, builder) -> builder.and(
+						builder.greaterThanOrEqualTo(root.get(key), from),
+						last ? builder.lessThanOrEqualTo(root.get(key), to) : builder.lessThan(root.get(key), to));
+				BlockingQueue<Object> queue = iterator.queues.get(i);
+				executor.execute(() -> scan(specification == null ? partition : specification.and(partition), sort, queue, iterator));
+			}
+		} catch (RuntimeException | Error e) {
+			// 이미 시작한 구간이 소비되지 않을 큐를 기다리며 연결을 붙잡고 있지 않도록 멈춥니다.
+			iterator.close();
+			throw e;
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(iterator::close);
+	}
+
+	private void scan(Specification<ENTITY> specification, Sort sort, BlockingQueue<Object> queue, PartitionIterator iterator) {
+		if (iterator.closed) {
+			return;
+		}
+		Object end = END;
+		try {
+			transactionTemplate.execute(status -> {
+				try (Stream<ENTITY> stream = criteriaExecutor.stream(specification, sort, fetchSize, fetchSize)) {
+					Iterator<ENTITY> rows = stream.iterator();
+					while (rows.hasNext() && !iterator.closed) {
+						offer(queue, rows.next(), iterator);
+					}
+				}
+				return null;
+			});
+		} catch (RuntimeException | Error e) {
+			end = new Failure(e);
+		}
+		offer(queue, end, iterator);
+	}
+
+	private void offer(BlockingQueue<Object> queue, Object item, PartitionIterator iterator) {
+		try {
+			while (!iterator.closed) {
+				if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * {@code [lower, upper]} 범위를 나누는 경계값. 같은 경계값이 생길 만큼 범위가 좁으면 구간 수가 줄어듭니다.
+	 */
+	private static <X extends Comparable<? super X>> List<X> split(X lower, X upper, int partitions) {
+		BigInteger low = BigInteger.valueOf(toLong(lower));
+		BigInteger width = BigInteger.valueOf(toLong(upper)).subtract(low);
+		List<X> boundaries = new ArrayList<>(partitions + 1);
+		boundaries.add(lower);
+		for (int i = 1; i < partitions; i++) {
+			long value = low.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions))).longValueExact();
+			X boundary = fromLong(value, lower);
+			if (boundary.compareTo(boundaries.get(boundaries.size() - 1)) > 0 && boundary.compareTo(upper) < 0) {
+				boundaries.add(boundary);
+			}
+		}
+		boundaries.add(upper);
+		return boundaries;
+	}
+
+	private static long toLong(Object value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+			return ((Number) value).longValue();
+		} else if (value instanceof Instant instant) {
+			return instant.toEpochMilli();
+		} else if (value instanceof LocalDateTime dateTime) {
+			return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+		} else if (value instanceof LocalDate date) {
+			return date.toEpochDay();
+		}
+		throw new IllegalArgumentException("Unsupported partition key type: " + value.getClass().getName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <X> X fromLong(long value, X sample) {
+		Object result;
+		if (sample instanceof Long) {
+			result = value;
+		} else if (sample instanceof Integer) {
+			result = (int) value;
+		} else if (sample instanceof Short) {
+			result = (short) value;
+		} else if (sample instanceof Instant) {
+			result = Instant.ofEpochMilli(value);
+		} else if (sample instanceof LocalDateTime) {
+			result = LocalDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneOffset.UTC);
+		} else {
+			result = LocalDate.ofEpochDay(value);
+		}
+		return (X) result;
+	}
+
+	/**
+	 * 구간별 큐를 차례로 소비하는 반복자
+	 */
+	private final class PartitionIterator implements Iterator<ENTITY> {
+
+		private final List<BlockingQueue<Object>> queues;
+
+		private volatile boolean closed;
+
+		private int current;
+
+		private Object next;
+
+		private PartitionIterator(int partitions) {
+			this.queues = new ArrayList<>(partitions);
+			for (int i = 0; i < partitions; i++) {
+				queues.add(new ArrayBlockingQueue<>(fetchSize));
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && current < queues.size()) {
+				Object item = take(queues.get(current));
+				if (item instanceof Failure failure) {
+					close();
+					failure.rethrow();
+				} else if (item == END) {
+					current++;
+				} else {
+					next = item;
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ENTITY next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ENTITY result = (ENTITY) next;
+			next = null;
+			return result;
+		}
+
+		private Object take(BlockingQueue<Object> queue) {
+			try {
+				return queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new IllegalStateException("Interrupted while waiting for a partition", e);
+			}
+		}
+
+		private void close() {
+			closed = true;
+			current = queues.size();
+		}
+	}
+
+	private static final class Failure {
+
+		private final Throwable cause;
+
+		private Failure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		private void rethrow() {
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw (Error) cause;
+		}
+	}
+}
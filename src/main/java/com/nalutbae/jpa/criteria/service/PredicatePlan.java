@@ -0,0 +1,120 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.FilterShape;
+import com.nalutbae.jpa.criteria.filter.RangeFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 필터 모양({@link FilterShape})별로 미리 계산해 둔 조건 구성 계획.
+ * {@link QueryService}의 buildSpecification 분기 규칙을 모양마다 한 번만 평가하여
+ * 실제로 적용할 연산자 목록으로 저장하며, 요청마다 값만 바인딩하여 재사용합니다.
+ */
+final class PredicatePlan {
+
+	/**
+	 * 필터 유형별 연산자 적용 규칙
+	 */
+	enum Kind {
+		/**
+		 * 첫 번째로 지정된 연산자 하나만 적용합니다.
+		 */
+		BASIC(FilterOperator.EQUALS, FilterOperator.IN, FilterOperator.NOT_IN, FilterOperator.NOT_EQUALS,
+				FilterOperator.EXISTS),
+		/**
+		 * 첫 번째로 지정된 연산자 하나만 적용합니다.
+		 */
+		STRING(FilterOperator.EQUALS, FilterOperator.IN, FilterOperator.NOT_IN, FilterOperator.FULL_TEXT,
+				FilterOperator.STARTS_WITH,
+				FilterOperator.ENDS_WITH, FilterOperator.CONTAINS, FilterOperator.DOES_NOT_CONTAIN,
+				FilterOperator.NOT_EQUALS, FilterOperator.EXISTS),
+		/**
+		 * equals, in 중 하나가 지정되면 그 연산자만, 아니면 나머지 연산자를 모두 and 조건으로 적용합니다.
+		 */
+		RANGE(FilterOperator.EXISTS, FilterOperator.NOT_EQUALS, FilterOperator.NOT_IN, FilterOperator.GREATER_THAN,
+				FilterOperator.GREATER_THAN_OR_EQUAL, FilterOperator.LESS_THAN, FilterOperator.LESS_THAN_OR_EQUAL);
+
+		private final FilterOperator[] order;
+
+		Kind(FilterOperator... order) {
+			this.order = order;
+		}
+
+		/**
+		 * 필터 클래스에 해당하는 유형을 반환합니다.
+		 *
+		 * @param filter 필터
+		 * @return 필터 유형
+		 */
+		static Kind of(Filter<?> filter) {
+			if (filter instanceof RangeFilter) {
+				return RANGE;
+			}
+			return filter instanceof StringFilter ? STRING : BASIC;
+		}
+	}
+
+	private static final Map<Kind, ConcurrentMap<FilterShape, PredicatePlan>> CACHE = new EnumMap<>(Kind.class);
+
+	static {
+		for (Kind kind : Kind.values()) {
+			CACHE.put(kind, new ConcurrentHashMap<>());
+		}
+	}
+
+	private final FilterOperator[] operators;
+
+	private PredicatePlan(FilterOperator[] operators) {
+		this.operators = operators;
+	}
+
+	/**
+	 * 필터 유형과 모양에 해당하는 계획을 반환합니다. 처음 요청된 모양이면 계획을 만들어 캐시합니다.
+	 *
+	 * @param kind  필터 유형
+	 * @param shape 필터 모양
+	 * @return 캐시된 계획
+	 */
+	static PredicatePlan of(Kind kind, FilterShape shape) {
+		return CACHE.get(kind).computeIfAbsent(shape, key -> compile(kind, key));
+	}
+
+	private static PredicatePlan compile(Kind kind, FilterShape shape) {
+		if (kind == Kind.RANGE) {
+			if (shape.contains(FilterOperator.EQUALS)) {
+				return new PredicatePlan(new FilterOperator[]{FilterOperator.EQUALS});
+			} else if (shape.contains(FilterOperator.IN)) {
+				return new PredicatePlan(new FilterOperator[]{FilterOperator.IN});
+			}
+			List<FilterOperator> operators = new ArrayList<>();
+			for (FilterOperator operator : kind.order) {
+				if (shape.contains(operator)) {
+					operators.add(operator);
+				}
+			}
+			return new PredicatePlan(operators.toArray(new FilterOperator[0]));
+		}
+		for (FilterOperator operator : kind.order) {
+			if (shape.contains(operator)) {
+				return new PredicatePlan(new FilterOperator[]{operator});
+			}
+		}
+		return new PredicatePlan(new FilterOperator[0]);
+	}
+
+	FilterOperator[] getOperators() {
+		return operators;
+	}
+
+	boolean isEmpty() {
+		return operators.length == 0;
+	}
+}
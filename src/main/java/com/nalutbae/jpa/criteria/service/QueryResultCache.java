@@ -0,0 +1,189 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 조회 기준별 조회 결과를 보관하는 로컬 캐시
+ * <p>
+ * 항목은 최대 개수를 넘으면 가장 오래 사용하지 않은 것부터, 유효 기간이 지나면 다음 조회 시 제거됩니다.
+ * 엔티티가 저장, 수정, 삭제되면 {@link QueryResultCacheListener}가 {@link #invalidateEntity(Class)}를 호출하여
+ * 해당 엔티티 유형을 조회한 항목을 모든 캐시에서 제거합니다.
+ * 결과가 join이나 서브쿼리로 다른 엔티티의 값에 따라 달라진다면 {@link #get(Set, CriteriaKey, Supplier)}에 그 엔티티 유형도 함께 지정해야 하며,
+ * 지정하지 않은 엔티티가 변경되면 유효 기간이 지날 때까지 변경 전의 결과가 반환됩니다.
+ * 조회 중에 무효화가 일어나면 그 조회 결과는 캐시에 저장하지 않으므로, 변경 전의 결과가 다시 캐시되지 않습니다.
+ * <p>
+ * 캐시된 결과는 여러 세션과 스레드의 호출자가 공유하므로 수정하지 않아야 하며, id 목록이나 DTO 페이지처럼 영속성 컨텍스트와 무관한 값이어야 합니다.
+ * 관리 상태의 엔티티는 캐시하지 마세요. 엔티티는 조회한 영속성 컨텍스트에 연결된 채로 남아 다른 호출자가 수정하거나 지연 로딩을 일으킬 수 있습니다.
+ * JPQL bulk update/delete나 네이티브 쿼리처럼 엔티티 리스너를 거치지 않는 변경은 {@link #invalidate(Class)}를 직접 호출해야 합니다.
+ */
+public final class QueryResultCache {
+
+	private static final Set<QueryResultCache> CACHES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private final int maximumSize;
+	private final long timeToLiveNanos;
+	private final LinkedHashMap<CriteriaKey, Entry> entries;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private long generation;
+
+	private QueryResultCache(int maximumSize, Duration timeToLive) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		if (timeToLive.isNegative() || timeToLive.isZero()) {
+			throw new IllegalArgumentException("timeToLive must be positive: " + timeToLive);
+		}
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CriteriaKey, Entry> eldest) {
+				return size() > QueryResultCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * 캐시를 만들고 엔티티 변경 시 무효화되도록 등록합니다.
+	 *
+	 * @param maximumSize 보관할 최대 항목 수
+	 * @param timeToLive  항목의 유효 기간
+	 * @return 새 캐시
+	 */
+	public static QueryResultCache of(int maximumSize, Duration timeToLive) {
+		QueryResultCache cache = new QueryResultCache(maximumSize, timeToLive);
+		CACHES.add(cache);
+		return cache;
+	}
+
+	/**
+	 * 모든 캐시에서 지정한 엔티티 유형(또는 상위 유형)을 조회한 항목을 제거합니다.
+	 *
+	 * @param entityType 변경된 엔티티의 유형
+	 */
+	public static void invalidateEntity(Class<?> entityType) {
+		QueryResultCache[] caches;
+		synchronized (CACHES) {
+			caches = CACHES.toArray(new QueryResultCache[0]);
+		}
+		for (QueryResultCache cache : caches) {
+			cache.invalidate(entityType);
+		}
+	}
+
+	/**
+	 * 캐시된 결과를 반환하거나, 없으면 {@code loader}로 조회하여 캐시에 저장합니다.
+	 *
+	 * @param entityType 조회하는 엔티티의 유형, 이 유형의 엔티티가 변경되면 항목이 제거됩니다.
+	 * @param key        조회 기준으로 만든 키
+	 * @param loader     캐시에 결과가 없을 때 조회하는 함수
+	 * @param <R>        결과의 유형
+	 * @return 조회 결과
+	 */
+	public <R> R get(Class<?> entityType, CriteriaKey key, Supplier<R> loader) {
+		return get(Set.of(entityType), key, loader);
+	}
+
+	/**
+	 * 캐시된 결과를 반환하거나, 없으면 {@code loader}로 조회하여 캐시에 저장합니다.
+	 *
+	 * @param entityTypes 조회하는 엔티티와 join, 서브쿼리로 결과에 영향을 주는 엔티티의 유형,
+	 *                    이 중 하나라도 변경되면 항목이 제거됩니다.
+	 * @param key         조회 기준으로 만든 키
+	 * @param loader      캐시에 결과가 없을 때 조회하는 함수
+	 * @param <R>         결과의 유형
+	 * @return 조회 결과
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R get(Set<Class<?>> entityTypes, CriteriaKey key, Supplier<R> loader) {
+		if (entityTypes.isEmpty()) {
+			throw new IllegalArgumentException("entityTypes must not be empty");
+		}
+		Set<Class<?>> dependencies = Set.copyOf(entityTypes);
+		long loadGeneration;
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null && entry.entityTypes.equals(dependencies) && System.nanoTime() - entry.createdNanos < timeToLiveNanos) {
+				hitCount.increment();
+				return (R) entry.value;
+			}
+			if (entry != null) {
+				entries.remove(key);
+			}
+			loadGeneration = generation;
+		}
+		missCount.increment();
+		R value = loader.get();
+		synchronized (this) {
+			if (generation == loadGeneration) {
+				entries.put(key, new Entry(dependencies, value, System.nanoTime()));
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 지정한 엔티티 유형(또는 상위 유형)을 조회한 항목을 제거합니다.
+	 *
+	 * @param entityType 변경된 엔티티의 유형
+	 */
+	public synchronized void invalidate(Class<?> entityType) {
+		generation++;
+		for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+			if (iterator.next().dependsOn(entityType)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * 모든 항목을 제거합니다.
+	 */
+	public synchronized void invalidateAll() {
+		generation++;
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	private static final class Entry {
+
+		private final Set<Class<?>> entityTypes;
+		private final Object value;
+		private final long createdNanos;
+
+		private Entry(Set<Class<?>> entityTypes, Object value, long createdNanos) {
+			this.entityTypes = entityTypes;
+			this.value = value;
+			this.createdNanos = createdNanos;
+		}
+
+		private boolean dependsOn(Class<?> changedType) {
+			for (Class<?> entityType : entityTypes) {
+				if (entityType.isAssignableFrom(changedType) || changedType.isAssignableFrom(entityType)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.nalutbae.jpa.criteria.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 엔티티가 변경되면 {@link QueryResultCache}의 해당 엔티티 유형 항목을 제거하는 JPA 엔티티 리스너
+ * <p>
+ * 항목은 캐시할 때 지정한 엔티티 유형으로만 찾으므로, join이나 서브쿼리로 이 엔티티를 사용하는 다른 엔티티의 조회 결과는
+ * {@link QueryService#cached(Class, java.util.Set, CriteriaKey, java.util.function.Supplier)}로 이 유형을 지정했을 때만 제거됩니다.
+ * <p>
+ * 변경이 flush되는 시점에 한 번, 트랜잭션이 끝난 뒤에 한 번 더 제거합니다.
+ * 그 사이에 다른 트랜잭션이 커밋되기 전의 데이터를 조회해 캐시에 저장할 수 있기 때문입니다.
+ * <pre>
+ *      &#64;Entity
+ *      &#64;EntityListeners(QueryResultCacheListener.class)
+ *      public class Example { ... }
+ * </pre>
+ */
+public class QueryResultCacheListener {
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		Class<?> entityType = entity.getClass();
+		QueryResultCache.invalidateEntity(entityType);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					QueryResultCache.invalidateEntity(entityType);
+				}
+			});
+		}
+	}
+}
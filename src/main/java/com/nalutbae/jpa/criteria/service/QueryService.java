@@ -1,16 +1,41 @@
 package com.nalutbae.jpa.criteria.service;
 
+import com.nalutbae.jpa.criteria.Criteria;
 import com.nalutbae.jpa.criteria.filter.*;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaBuilder.In;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.ListJoin;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.SetJoin;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ListAttribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SetAttribute;
 import jakarta.persistence.metamodel.SingularAttribute;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 복잡한 조회 쿼리를 구성하고 실행하기 위한 기본 서비스
@@ -20,6 +45,12 @@ import java.util.function.Function;
 @Transactional(readOnly = true)
 public abstract class QueryService<ENTITY> {
 
+	private static final char LIKE_ESCAPE = '\\';
+
+	private static final FullTextSearch FULL_TEXT_FALLBACK = FullTextSearch.like();
+
+	private final LongAdder unsatisfiableCriteriaCount = new LongAdder();
+
 	/**
 	 * 같음, null, non-null 조건이 지원되는 필드 조회 쿼리를 위한 {@link Specification}을 반환하는 함수
 	 *
@@ -41,6 +72,9 @@ public abstract class QueryService<ENTITY> {
 	 * @return 쿼리 검색 사양
 	 */
 	protected <X> Specification<ENTITY> buildSpecification(Filter<X> filter, Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+		if (isPredicatePlanEnabled()) {
+			return plannedSpecification(PredicatePlan.Kind.BASIC, filter, metaclassFunction);
+		}
 		if (filter.getEquals() != null) {
 			return equalsSpecification(metaclassFunction, filter.getEquals());
 		} else if (filter.getIn() != null) {
@@ -74,12 +108,21 @@ public abstract class QueryService<ENTITY> {
 	 * @return 쿼리 검색 사양
 	 */
 	protected Specification<ENTITY> buildSpecification(StringFilter filter, Function<Root<ENTITY>, Expression<String>> metaclassFunction) {
+		if (isPredicatePlanEnabled()) {
+			return plannedSpecification(PredicatePlan.Kind.STRING, filter, metaclassFunction);
+		}
 		if (filter.getEquals() != null) {
 			return equalsSpecification(metaclassFunction, filter.getEquals());
 		} else if (filter.getIn() != null) {
 			return valueIn(metaclassFunction, filter.getIn());
 		} else if (filter.getNotIn() != null) {
 			return valueNotIn(metaclassFunction, filter.getNotIn());
+		} else if (filter.getFullText() != null) {
+			return fullTextSpecification(metaclassFunction, filter.getFullText());
+		} else if (filter.getStartsWith() != null) {
+			return startsWithSpecification(metaclassFunction, filter.getStartsWith());
+		} else if (filter.getEndsWith() != null) {
+			return endsWithSpecification(metaclassFunction, filter.getEndsWith());
 		} else if (filter.getContains() != null) {
 			return likeUpperSpecification(metaclassFunction, filter.getContains());
 		} else if (filter.getDoesNotContain() != null) {
@@ -117,6 +160,17 @@ public abstract class QueryService<ENTITY> {
 	 */
 	protected <X extends Comparable<? super X>> Specification<ENTITY> buildSpecification(RangeFilter<X> filter,
 																						 Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+		boolean temporal = isTemporalNormalizationEnabled() && isTemporal(filter);
+		if (temporal) {
+			filter = toUtc(filter);
+		}
+		if ((temporal || isRangeNormalizationEnabled()) && filter.getEquals() == null && filter.getIn() == null) {
+			return buildSpecification(NormalizedRange.of(filter), metaclassFunction);
+		}
+		if (isPredicatePlanEnabled()) {
+			Specification<ENTITY> planned = plannedSpecification(PredicatePlan.Kind.RANGE, filter, metaclassFunction);
+			return planned == null ? Specification.where(null) : planned;
+		}
 		if (filter.getEquals() != null) {
 			return equalsSpecification(metaclassFunction, filter.getEquals());
 		} else if (filter.getIn() != null) {
@@ -148,22 +202,294 @@ public abstract class QueryService<ENTITY> {
 		return result;
 	}
 
+	/**
+	 * 정리된 범위 조건에 대하여 필드 조회 쿼리를 위한 {@link Specification}을 반환하는 함수.
+	 * 인덱스 범위 검색에 사용할 수 있는 상한, 하한 조건을 먼저 두고 notEquals, notIn 조건을 뒤에 둡니다.
+	 * 빈 구간이면 항상 거짓인 조건을 반환합니다.
+	 *
+	 * @param range             정리된 범위 조건
+	 * @param metaclassFunction 현재 엔티티에서 필터가 적용되는 컬럼을 가져오는 함수(람다 표현식)
+	 * @param <X>               필터링되는 속성의 유형
+	 * @return 쿼리 검색 사양
+	 * @see #isRangeNormalizationEnabled()
+	 */
+	protected <X extends Comparable<? super X>> Specification<ENTITY> buildSpecification(NormalizedRange<X> range,
+																						 Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+		return (root, query, builder) -> rangePredicate(range, metaclassFunction.apply(root), builder);
+	}
+
+	/**
+	 * {@link RangeFilter}의 범위 조건을 {@link NormalizedRange}로 정리한 뒤 조회 쿼리를 만들지 여부.
+	 * 겹치거나 중복된 상한, 하한 조건은 하나의 구간으로 합쳐지고, 만족할 수 없는 구간은 항상 거짓인 조건이 됩니다.
+	 * 조회 결과는 바뀌지 않습니다.
+	 *
+	 * @return 범위 조건을 정리하면 {@code true}, 기본값은 {@code false}
+	 */
+	protected boolean isRangeNormalizationEnabled() {
+		return false;
+	}
+
+	/**
+	 * 날짜와 시각 필터({@link LocalDateFilter}, {@link LocalDateTimeFilter}, {@link ZonedDateTimeFilter}, {@link InstantFilter})를
+	 * 정리한 뒤 조회 쿼리를 만들지 여부.
+	 * {@link ZonedDateTimeFilter}의 값은 같은 순간의 UTC 시각으로 바뀌고, 범위 조건은 {@link #isRangeNormalizationEnabled()}와 관계없이
+	 * 하나의 구간으로 합쳐집니다. 날짜 필터를 시각 컬럼에 적용하려면
+	 * {@link #buildDaySpecification(LocalDateFilter, SingularAttribute)}를 사용하세요.
+	 *
+	 * @return 날짜와 시각 필터를 정리하면 {@code true}, 기본값은 {@code false}
+	 */
+	protected boolean isTemporalNormalizationEnabled() {
+		return false;
+	}
+
+	/**
+	 * 날짜 필터를 시각 컬럼에 적용할 때 날짜의 경계를 정하는 시간대.
+	 *
+	 * @return 날짜의 경계를 정하는 시간대, 기본값은 {@link ZoneOffset#UTC}
+	 */
+	protected ZoneId getTemporalZone() {
+		return ZoneOffset.UTC;
+	}
+
+	/**
+	 * 날짜 필터를 {@link Instant} 컬럼에 적용하기 위한 {@link Specification}을 반환하는 함수.
+	 * 날짜의 경계는 {@link #getTemporalZone()}으로 정합니다.
+	 *
+	 * @param filter 프론터엔드에서 요청한 개별 속성 필터
+	 * @param field  필드를 나타내는 JPA 메타모델.
+	 * @return 쿼리 검색 사양
+	 * @see #buildDaySpecification(LocalDateFilter, Function, Function)
+	 */
+	protected Specification<ENTITY> buildDaySpecification(LocalDateFilter filter, SingularAttribute<? super ENTITY, Instant> field) {
+		return buildDaySpecification(filter, root -> root.get(field), TemporalRanges.instantDayStart(getTemporalZone()));
+	}
+
+	/**
+	 * 날짜 필터를 시각 컬럼에 적용하기 위한 {@link Specification}을 반환하는 함수.
+	 *
+	 * @param filter     프론터엔드에서 요청한 개별 속성 필터
+	 * @param field      필드를 나타내는 JPA 메타모델.
+	 * @param startOfDay 날짜를 그날이 시작되는 시각으로 변환하는 함수, {@link TemporalRanges} 참고
+	 * @param <X>        필터링되는 속성의 유형
+	 * @return 쿼리 검색 사양
+	 * @see #buildDaySpecification(LocalDateFilter, Function, Function)
+	 */
+	protected <X extends Comparable<? super X>> Specification<ENTITY> buildDaySpecification(LocalDateFilter filter,
+																							SingularAttribute<? super ENTITY, X> field,
+																							Function<LocalDate, X> startOfDay) {
+		return buildDaySpecification(filter, root -> root.get(field), startOfDay);
+	}
+
+	/**
+	 * 날짜 필터를 시각 컬럼에 적용하기 위한 {@link Specification}을 반환하는 함수.
+	 * 컬럼에 함수를 적용하여 날짜로 바꾸지 않고, 모든 조건을 그날이 시작되는 시각을 경계로 하는 반열린 구간으로 바꿉니다.
+	 * 따라서 시각 컬럼의 인덱스 범위 검색과 날짜 단위 파티션 제외(partition pruning)를 사용할 수 있습니다.
+	 * <pre>
+	 *      equals=2024-03-01              → 2024-03-01T00:00 &lt;= x &lt; 2024-03-02T00:00
+	 *      in=2024-03-01,2024-03-02       → 2024-03-01T00:00 &lt;= x &lt; 2024-03-03T00:00
+	 *      greaterThan=2024-03-01         → 2024-03-02T00:00 &lt;= x
+	 *      lessThanOrEqual=2024-03-01     → x &lt; 2024-03-02T00:00
+	 *      notEquals=2024-03-01           → (x &lt; 2024-03-01T00:00 or 2024-03-02T00:00 &lt;= x)
+	 * </pre>
+	 * in 목록의 연속된 날짜는 하나의 구간으로 합쳐지고, 상한과 하한은 {@link NormalizedRange}로 하나의 구간으로 정리됩니다.
+	 *
+	 * @param filter            프론터엔드에서 요청한 개별 속성 필터
+	 * @param metaclassFunction 현재 엔티티에서 필터가 적용되는 컬럼을 가져오는 함수(람다 표현식)
+	 * @param startOfDay        날짜를 그날이 시작되는 시각으로 변환하는 함수, {@link TemporalRanges} 참고
+	 * @param <X>               필터링되는 속성의 유형
+	 * @return 쿼리 검색 사양
+	 */
+	protected <X extends Comparable<? super X>> Specification<ENTITY> buildDaySpecification(LocalDateFilter filter,
+																							Function<Root<ENTITY>, Expression<X>> metaclassFunction,
+																							Function<LocalDate, X> startOfDay) {
+		return (root, query, builder) -> dayPredicate(filter, metaclassFunction.apply(root), startOfDay, builder);
+	}
+
+	private static boolean isTemporal(RangeFilter<?> filter) {
+		return filter instanceof LocalDateFilter || filter instanceof LocalDateTimeFilter
+				|| filter instanceof ZonedDateTimeFilter || filter instanceof InstantFilter;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <X extends Comparable<? super X>> RangeFilter<X> toUtc(RangeFilter<X> filter) {
+		return filter instanceof ZonedDateTimeFilter zoned ? (RangeFilter<X>) TemporalRanges.toUtc(zoned) : filter;
+	}
+
+	/**
+	 * 키셋(seek) 페이지네이션을 위한 {@link Specification}을 반환하는 함수.
+	 * 커서가 가리키는 행 다음의 행만 조회하도록 {@code (sort, id) > (:lastSort, :lastId)} 조건을
+	 * {@link RangeFilter} 조건의 조합으로 만들고, 쿼리를 정렬 컬럼과 식별자 순으로 정렬합니다.
+	 * OFFSET을 사용하지 않으므로 페이지가 깊어져도 조회 비용이 늘어나지 않습니다.
+	 * 정렬 컬럼과 식별자로 구성된 인덱스가 있어야 효과가 있습니다.
+	 *
+	 * @param keyset 정렬 기준
+	 * @param cursor 이전 페이지의 마지막 행 위치, 첫 페이지이면 {@code null}
+	 * @param <S>    정렬 컬럼의 유형
+	 * @param <ID>   식별자의 유형
+	 * @return 쿼리 검색 사양
+	 * @see CriteriaExecutor#findKeysetSlice(Specification, Keyset, int)
+	 */
+	protected <S extends Comparable<? super S>, ID extends Comparable<? super ID>> Specification<ENTITY> buildKeysetSpecification(
+			Keyset<ENTITY, S, ID> keyset, KeysetCursor<S, ID> cursor) {
+		Function<Root<ENTITY>, Expression<S>> sortFunction = root -> root.get(keyset.getSortField());
+		Function<Root<ENTITY>, Expression<ID>> idFunction = root -> root.get(keyset.getIdField());
+		Specification<ENTITY> ordering = (root, query, builder) -> {
+			if (!isCountQuery(query)) {
+				query.orderBy(keyset.isAscending() ?
+						List.of(builder.asc(sortFunction.apply(root)), builder.asc(idFunction.apply(root))) :
+						List.of(builder.desc(sortFunction.apply(root)), builder.desc(idFunction.apply(root))));
+			}
+			return null;
+		};
+		if (cursor == null) {
+			return ordering;
+		}
+		RangeFilter<S> sortAfter = new RangeFilter<>();
+		RangeFilter<ID> idAfter = new RangeFilter<>();
+		if (keyset.isAscending()) {
+			sortAfter.setGreaterThan(cursor.getSortValue());
+			idAfter.setGreaterThan(cursor.getId());
+		} else {
+			sortAfter.setLessThan(cursor.getSortValue());
+			idAfter.setLessThan(cursor.getId());
+		}
+		Specification<ENTITY> seek = buildSpecification(sortAfter, sortFunction)
+				.or(equalsSpecification(sortFunction, cursor.getSortValue())
+						.and(buildSpecification(idAfter, idFunction)));
+		return ordering.and(seek);
+	}
+
+	/**
+	 * 필터 모양별로 캐시된 조건 구성 계획({@link PredicatePlan})의 사용 여부.
+	 * 사용하면 요청마다 {@link Specification} 람다 체인을 새로 만들지 않고, 필터 하나당 하나의 사양만 생성하여
+	 * 같은 모양의 요청이 같은 쿼리 구조를 갖도록 합니다.
+	 * 하위 클래스에서 {@code ...Specification} 메서드를 재정의한 경우, 계획은 해당 메서드 대신
+	 * {@code ...Predicate} 메서드를 사용한다는 점에 유의하세요.
+	 *
+	 * @return 계획을 사용하면 {@code true}, 기본값은 {@code false}
+	 */
+	protected boolean isPredicatePlanEnabled() {
+		return false;
+	}
+
+	/**
+	 * {@code in}, {@code notIn} 값 목록의 길이를 2의 거듭제곱 단위로 채우는지 여부.
+	 * 사용하면 마지막 값을 반복하여 목록을 채우므로, 값의 개수가 제각각인 요청들이 소수의 SQL 문장으로 모여
+	 * JPA 구현체의 쿼리 계획 캐시와 데이터베이스의 문장 캐시를 재사용할 수 있습니다.
+	 * 조건의 의미는 바뀌지 않습니다.
+	 * Hibernate를 사용한다면 {@code hibernate.query.in_clause_parameter_padding} 설정도 함께 고려하세요.
+	 *
+	 * @return 값 목록을 채우면 {@code true}, 기본값은 {@code false}
+	 */
+	protected boolean isInValuePaddingEnabled() {
+		return false;
+	}
+
+	/**
+	 * 하나의 {@code in} 조건에 넣을 수 있는 값의 최대 개수.
+	 * 값이 이보다 많으면 이 크기의 {@code in} 조건 여러 개를 or 조건으로 묶습니다.
+	 * 목록 하나의 길이에 제한이 있는 데이터베이스(예: Oracle의 1000개)에서 큰 목록으로 조회할 때 사용합니다.
+	 * 길이 맞추기({@link #isInValuePaddingEnabled()})를 함께 사용한다면 2의 거듭제곱으로 지정하세요.
+	 *
+	 * @return 최대 개수, 0 이하이면 나누지 않습니다. 기본값은 0
+	 */
+	protected int getInValueChunkSize() {
+		return 0;
+	}
+
+	private <X> Specification<ENTITY> plannedSpecification(PredicatePlan.Kind kind, Filter<X> filter,
+														   Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+		PredicatePlan plan = PredicatePlan.of(kind, FilterShape.of(filter));
+		if (plan.isEmpty()) {
+			return null;
+		}
+		return (root, query, builder) -> toPredicate(plan, filter, metaclassFunction.apply(root), builder);
+	}
+
+	private <X> Predicate toPredicate(PredicatePlan plan, Filter<X> filter, Expression<X> expression,
+									  CriteriaBuilder builder) {
+		FilterOperator[] operators = plan.getOperators();
+		if (operators.length == 1) {
+			return operatorPredicate(operators[0], filter, expression, builder);
+		}
+		Predicate[] predicates = new Predicate[operators.length];
+		for (int i = 0; i < operators.length; i++) {
+			predicates[i] = operatorPredicate(operators[i], filter, expression, builder);
+		}
+		return builder.and(predicates);
+	}
+
+	/**
+	 * 필터에서 연산자 하나에 해당하는 조건을 만듭니다.
+	 *
+	 * @param operator   적용할 연산자
+	 * @param filter     값을 가져올 필터
+	 * @param expression 필터가 적용되는 컬럼
+	 * @param builder    조건을 만들 {@link CriteriaBuilder}
+	 * @param <X>        필터링되는 속성의 유형
+	 * @return 연산자에 해당하는 조건
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected <X> Predicate operatorPredicate(FilterOperator operator, Filter<X> filter, Expression<X> expression,
+											  CriteriaBuilder builder) {
+		return switch (operator) {
+			case EQUALS -> equalsPredicate(expression, filter.getEquals(), builder);
+			case NOT_EQUALS -> notEqualsPredicate(expression, filter.getNotEquals(), builder);
+			case EXISTS -> specifiedPredicate(expression, filter.getExists(), builder);
+			case IN -> inPredicate(expression, filter.getIn(), builder);
+			case NOT_IN -> notInPredicate(expression, filter.getNotIn(), builder);
+			case CONTAINS -> likeUpperPredicate((Expression<String>) expression,
+					((StringFilter) filter).getContains(), builder);
+			case DOES_NOT_CONTAIN -> doesNotContainPredicate((Expression<String>) expression,
+					((StringFilter) filter).getDoesNotContain(), builder);
+			case STARTS_WITH -> startsWithPredicate((Expression<String>) expression,
+					((StringFilter) filter).getStartsWith(), builder);
+			case ENDS_WITH -> endsWithPredicate((Expression<String>) expression,
+					((StringFilter) filter).getEndsWith(), builder);
+			case FULL_TEXT -> fullTextPredicate((Expression<String>) expression,
+					((StringFilter) filter).getFullText(), builder);
+			case GREATER_THAN -> greaterThanPredicate((Expression) expression,
+					(Comparable) ((RangeFilter) filter).getGreaterThan(), builder);
+			case GREATER_THAN_OR_EQUAL -> greaterThanOrEqualToPredicate((Expression) expression,
+					(Comparable) ((RangeFilter) filter).getGreaterThanOrEqual(), builder);
+			case LESS_THAN -> lessThanPredicate((Expression) expression,
+					(Comparable) ((RangeFilter) filter).getLessThan(), builder);
+			case LESS_THAN_OR_EQUAL -> lessThanOrEqualToPredicate((Expression) expression,
+					(Comparable) ((RangeFilter) filter).getLessThanOrEqual(), builder);
+		};
+	}
+
 	protected <X> Specification<ENTITY> equalsSpecification(Function<Root<ENTITY>, Expression<X>> metaclassFunction, X value) {
-		return (root, query, builder) -> builder.equal(metaclassFunction.apply(root), value);
+		return (root, query, builder) -> equalsPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected <X> Specification<ENTITY> notEqualsSpecification(Function<Root<ENTITY>, Expression<X>> metaclassFunction, X value) {
-		return (root, query, builder) -> builder.not(builder.equal(metaclassFunction.apply(root), value));
+		return (root, query, builder) -> notEqualsPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected Specification<ENTITY> likeUpperSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
 														   String value) {
-		return (root, query, builder) -> builder.like(builder.upper(metaclassFunction.apply(root)), wrapLikeQuery(value));
+		return (root, query, builder) -> likeUpperPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected Specification<ENTITY> doesNotContainSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
 																String value) {
-		return (root, query, builder) -> builder.not(builder.like(builder.upper(metaclassFunction.apply(root)), wrapLikeQuery(value)));
+		return (root, query, builder) -> doesNotContainPredicate(metaclassFunction.apply(root), value, builder);
+	}
+
+	protected Specification<ENTITY> startsWithSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
+															String value) {
+		return (root, query, builder) -> startsWithPredicate(metaclassFunction.apply(root), value, builder);
+	}
+
+	protected Specification<ENTITY> endsWithSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
+														  String value) {
+		return (root, query, builder) -> endsWithPredicate(metaclassFunction.apply(root), value, builder);
+	}
+
+	protected Specification<ENTITY> fullTextSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
+														  String value) {
+		return (root, query, builder) -> fullTextPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected <X> Specification<ENTITY> byFieldSpecified(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
@@ -180,50 +506,690 @@ public abstract class QueryService<ENTITY> {
 				(root, query, builder) -> builder.isEmpty(metaclassFunction.apply(root));
 	}
 
-	protected <X> Specification<ENTITY> valueIn(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
-												Collection<X> values) {
+	/**
+	 * 값 컬렉션(element collection) 속성에 대한 필터를 {@code EXISTS} 서브쿼리로 적용하는 {@link Specification}을 반환하는 함수
+	 *
+	 * @param filter     프론터엔드에서 요청한 개별 속성 필터
+	 * @param collection 필터가 적용되는 값 컬렉션을 나타내는 JPA 메타모델
+	 * @param <X>        컬렉션 원소의 유형
+	 * @return 쿼리 검색 사양
+	 * @see #buildExistsSpecification(Filter, PluralAttribute, Function)
+	 */
+	protected <X> Specification<ENTITY> buildExistsSpecification(Filter<X> filter,
+																 PluralAttribute<? super ENTITY, ?, X> collection) {
+		return buildExistsSpecification(filter, collection, element -> element);
+	}
+
+	/**
+	 * 일대다, 다대다 연관 관계에 대한 필터를 join 대신 상관 {@code EXISTS} 서브쿼리로 적용하는 {@link Specification}을 반환하는 함수.
+	 * 행이 중복되지 않으므로 {@link #distinct(boolean)} 없이 정확한 페이지와 개수를 얻을 수 있습니다.
+	 * <ul>
+	 *     <li>equals, in, contains, 범위 조건 등은 조건을 만족하는 원소가 하나라도 있으면 만족합니다. ({@code EXISTS})</li>
+	 *     <li>notEquals, notIn, doesNotContain은 반대 조건을 만족하는 원소가 하나도 없으면 만족합니다. ({@code NOT EXISTS})</li>
+	 *     <li>exists=true는 값이 있는 원소가 있으면, exists=false는 값이 있는 원소가 없으면 만족합니다.</li>
+	 * </ul>
+	 * 연산자 우선순위는 {@link #buildSpecification(Filter, Function)} 등과 같으며,
+	 * 같은 {@code EXISTS}에 속한 조건들은 같은 원소가 모두 만족해야 합니다.
+	 * 원소가 없는 행은 {@code NOT EXISTS}를 만족하므로 notIn에 null이 있거나 doesNotContain이 빈 문자열이어도 참이 될 수 있습니다.
+	 * 이 필터의 필드는 {@link #isUnsatisfiable(Criteria, String...)}에서 제외해야 합니다.
+	 * <pre>
+	 *      buildExistsSpecification(criteria.getTagName(), Example_.tags, tag -&gt; tag.get(Tag_.name))
+	 * </pre>
+	 *
+	 * @param filter        프론터엔드에서 요청한 개별 속성 필터
+	 * @param collection    연관 관계 컬렉션을 나타내는 JPA 메타모델
+	 * @param valueFunction 컬렉션 원소에서 필터가 적용되는 컬럼을 가져오는 함수(람다 표현식)
+	 * @param <Y>           컬렉션 원소의 유형
+	 * @param <X>           필터링되는 속성의 유형
+	 * @return 쿼리 검색 사양
+	 */
+	protected <Y, X> Specification<ENTITY> buildExistsSpecification(Filter<X> filter,
+																	PluralAttribute<? super ENTITY, ?, Y> collection,
+																	Function<Join<ENTITY, Y>, Expression<X>> valueFunction) {
+		PredicatePlan plan = PredicatePlan.of(PredicatePlan.Kind.of(filter), FilterShape.of(filter));
+		if (plan.isEmpty()) {
+			return null;
+		}
+		List<FilterOperator> matching = new ArrayList<>();
+		List<FilterOperator> excluded = new ArrayList<>();
+		for (FilterOperator operator : plan.getOperators()) {
+			switch (operator) {
+				case NOT_EQUALS, NOT_IN, DOES_NOT_CONTAIN -> excluded.add(operator);
+				case EXISTS -> (filter.getExists() ? matching : excluded).add(operator);
+				default -> matching.add(operator);
+			}
+		}
 		return (root, query, builder) -> {
-			In<X> in = builder.in(metaclassFunction.apply(root));
-			for (X value : values) {
-				in = in.value(value);
+			List<Predicate> predicates = new ArrayList<>(excluded.size() + 1);
+			if (!matching.isEmpty()) {
+				predicates.add(builder.exists(elementSubquery(root, query, builder, collection, element -> {
+					Expression<X> expression = valueFunction.apply(element);
+					Predicate[] restrictions = new Predicate[matching.size()];
+					for (int i = 0; i < restrictions.length; i++) {
+						restrictions[i] = operatorPredicate(matching.get(i), filter, expression, builder);
+					}
+					return restrictions;
+				})));
 			}
-			return in;
+			for (FilterOperator operator : excluded) {
+				predicates.add(builder.not(builder.exists(elementSubquery(root, query, builder, collection,
+						element -> new Predicate[]{excludedElementPredicate(operator, filter, valueFunction.apply(element), builder)}))));
+			}
+			return predicates.size() == 1 ? predicates.get(0) : builder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+
+	/**
+	 * {@code NOT EXISTS}로 적용하는 연산자에 대해, 제외할 원소를 찾는 반대 조건을 만듭니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private <X> Predicate excludedElementPredicate(FilterOperator operator, Filter<X> filter, Expression<X> expression,
+												   CriteriaBuilder builder) {
+		return switch (operator) {
+			case NOT_EQUALS -> equalsPredicate(expression, filter.getNotEquals(), builder);
+			case NOT_IN -> inPredicate(expression, filter.getNotIn(), builder);
+			case DOES_NOT_CONTAIN -> likeUpperPredicate((Expression<String>) expression,
+					((StringFilter) filter).getDoesNotContain(), builder);
+			case EXISTS -> specifiedPredicate(expression, true, builder);
+			default -> throw new IllegalArgumentException(operator + " is not applied with NOT EXISTS");
 		};
 	}
 
+	/**
+	 * 바깥 쿼리의 엔티티와 상관된 {@code select 1 from ... join collection where ...} 서브쿼리를 만듭니다.
+	 */
+	private <Y> Subquery<Integer> elementSubquery(Root<ENTITY> root, CommonAbstractCriteria query, CriteriaBuilder builder,
+												  PluralAttribute<? super ENTITY, ?, Y> collection,
+												  Function<Join<ENTITY, Y>, Predicate[]> restrictions) {
+		Subquery<Integer> subquery = query.subquery(Integer.class);
+		Root<ENTITY> correlated = subquery.correlate(root);
+		Join<ENTITY, Y> element = correlated.join(collection.getName(), JoinType.INNER);
+		return subquery.select(builder.literal(1)).where(restrictions.apply(element));
+	}
+
+	protected <X> Specification<ENTITY> valueIn(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
+												Collection<X> values) {
+		return (root, query, builder) -> inPredicate(metaclassFunction.apply(root), values, builder);
+	}
+
 	protected <X> Specification<ENTITY> valueNotIn(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
 												   Collection<X> values) {
-		return (root, query, builder) -> {
-			In<X> in = builder.in(metaclassFunction.apply(root));
-			for (X value : values) {
-				in = in.value(value);
-			}
-			return builder.not(in);
-		};
+		return (root, query, builder) -> notInPredicate(metaclassFunction.apply(root), values, builder);
 	}
 
 	protected <X extends Comparable<? super X>> Specification<ENTITY> greaterThanOrEqualTo(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
 																						   X value) {
-		return (root, query, builder) -> builder.greaterThanOrEqualTo(metaclassFunction.apply(root), value);
+		return (root, query, builder) -> greaterThanOrEqualToPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected <X extends Comparable<? super X>> Specification<ENTITY> greaterThan(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
 																				  X value) {
-		return (root, query, builder) -> builder.greaterThan(metaclassFunction.apply(root), value);
+		return (root, query, builder) -> greaterThanPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected <X extends Comparable<? super X>> Specification<ENTITY> lessThanOrEqualTo(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
 																						X value) {
-		return (root, query, builder) -> builder.lessThanOrEqualTo(metaclassFunction.apply(root), value);
+		return (root, query, builder) -> lessThanOrEqualToPredicate(metaclassFunction.apply(root), value, builder);
 	}
 
 	protected <X extends Comparable<? super X>> Specification<ENTITY> lessThan(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
 																			   X value) {
-		return (root, query, builder) -> builder.lessThan(metaclassFunction.apply(root), value);
+		return (root, query, builder) -> lessThanPredicate(metaclassFunction.apply(root), value, builder);
+	}
+
+	protected <X> Predicate equalsPredicate(Expression<X> expression, X value, CriteriaBuilder builder) {
+		return builder.equal(expression, value);
+	}
+
+	protected <X> Predicate notEqualsPredicate(Expression<X> expression, X value, CriteriaBuilder builder) {
+		return builder.not(builder.equal(expression, value));
+	}
+
+	protected Predicate likeUpperPredicate(Expression<String> expression, String value, CriteriaBuilder builder) {
+		return builder.like(builder.upper(expression), wrapLikeQuery(value));
+	}
+
+	protected Predicate doesNotContainPredicate(Expression<String> expression, String value, CriteriaBuilder builder) {
+		return builder.not(builder.like(builder.upper(expression), wrapLikeQuery(value)));
+	}
+
+	protected Predicate startsWithPredicate(Expression<String> expression, String value, CriteriaBuilder builder) {
+		CaseInsensitivity caseInsensitivity = getCaseInsensitivity();
+		return builder.like(caseInsensitivity.column(expression, builder),
+				escapeLikeValue(caseInsensitivity.value(value)) + '%', LIKE_ESCAPE);
+	}
+
+	protected Predicate endsWithPredicate(Expression<String> expression, String value, CriteriaBuilder builder) {
+		CaseInsensitivity caseInsensitivity = getCaseInsensitivity();
+		return builder.like(caseInsensitivity.column(expression, builder),
+				'%' + escapeLikeValue(caseInsensitivity.value(value)), LIKE_ESCAPE);
+	}
+
+	protected Predicate fullTextPredicate(Expression<String> expression, String value, CriteriaBuilder builder) {
+		return getFullTextSearch().toPredicate(expression, value, builder);
+	}
+
+	protected <X> Predicate specifiedPredicate(Expression<X> expression, boolean specified, CriteriaBuilder builder) {
+		return specified ? builder.isNotNull(expression) : builder.isNull(expression);
+	}
+
+	protected <X> Predicate inPredicate(Expression<X> expression, Collection<X> values, CriteriaBuilder builder) {
+		int chunkSize = getInValueChunkSize();
+		if (chunkSize > 0 && values.size() > chunkSize) {
+			List<List<X>> chunks = InValues.chunk(values, chunkSize);
+			Predicate[] predicates = new Predicate[chunks.size()];
+			for (int i = 0; i < predicates.length; i++) {
+				predicates[i] = inListPredicate(expression, chunks.get(i), builder);
+			}
+			return builder.or(predicates);
+		}
+		return inListPredicate(expression, values, builder);
+	}
+
+	private <X> Predicate inListPredicate(Expression<X> expression, Collection<X> values, CriteriaBuilder builder) {
+		In<X> in = builder.in(expression);
+		for (X value : isInValuePaddingEnabled() ? InValues.pad(values) : values) {
+			in = in.value(value);
+		}
+		return in;
+	}
+
+	protected <X> Predicate notInPredicate(Expression<X> expression, Collection<X> values, CriteriaBuilder builder) {
+		return builder.not(inPredicate(expression, values, builder));
+	}
+
+	protected <X extends Comparable<? super X>> Predicate rangePredicate(NormalizedRange<X> range, Expression<X> expression,
+																		 CriteriaBuilder builder) {
+		if (range.isEmpty()) {
+			return builder.disjunction();
+		}
+		List<Predicate> predicates = new ArrayList<>(4);
+		X lower = range.getLower();
+		X upper = range.getUpper();
+		if (range.isPoint()) {
+			predicates.add(equalsPredicate(expression, lower, builder));
+		} else if (lower != null && upper != null && range.isLowerInclusive() && range.isUpperInclusive()) {
+			predicates.add(betweenPredicate(expression, lower, upper, builder));
+		} else {
+			if (lower != null) {
+				predicates.add(range.isLowerInclusive() ?
+						greaterThanOrEqualToPredicate(expression, lower, builder) :
+						greaterThanPredicate(expression, lower, builder));
+			}
+			if (upper != null) {
+				predicates.add(range.isUpperInclusive() ?
+						lessThanOrEqualToPredicate(expression, upper, builder) :
+						lessThanPredicate(expression, upper, builder));
+			}
+		}
+		if (range.getNotEquals() != null) {
+			predicates.add(notEqualsPredicate(expression, range.getNotEquals(), builder));
+		}
+		if (range.getNotIn() != null) {
+			predicates.add(notInPredicate(expression, range.getNotIn(), builder));
+		}
+		if (range.getExists() != null) {
+			predicates.add(specifiedPredicate(expression, range.getExists(), builder));
+		}
+		if (predicates.isEmpty()) {
+			return null;
+		}
+		return predicates.size() == 1 ? predicates.get(0) : builder.and(predicates.toArray(new Predicate[0]));
+	}
+
+	protected <X extends Comparable<? super X>> Predicate dayPredicate(LocalDateFilter filter, Expression<X> expression,
+																	   Function<LocalDate, X> startOfDay, CriteriaBuilder builder) {
+		if (filter.getEquals() != null) {
+			return dayRangePredicate(expression, filter.getEquals(), filter.getEquals(), startOfDay, builder);
+		}
+		if (filter.getIn() != null) {
+			List<Predicate> ranges = new ArrayList<>();
+			for (LocalDate[] run : dayRuns(filter.getIn())) {
+				ranges.add(dayRangePredicate(expression, run[0], run[1], startOfDay, builder));
+			}
+			if (ranges.isEmpty()) {
+				return builder.disjunction();
+			}
+			return ranges.size() == 1 ? ranges.get(0) : builder.or(ranges.toArray(new Predicate[0]));
+		}
+
+		NormalizedRange<LocalDate> range = NormalizedRange.of(filter);
+		if (range.isEmpty()) {
+			return builder.disjunction();
+		}
+		List<Predicate> predicates = new ArrayList<>(4);
+		LocalDate lower = range.getLower();
+		if (lower != null) {
+			if (!range.isLowerInclusive() && lower.equals(LocalDate.MAX)) {
+				return builder.disjunction();
+			}
+			LocalDate first = range.isLowerInclusive() ? lower : lower.plusDays(1);
+			predicates.add(greaterThanOrEqualToPredicate(expression, startOfDay.apply(first), builder));
+		}
+		LocalDate upper = range.getUpper();
+		if (upper != null) {
+			X end = range.isUpperInclusive() ? dayEnd(upper, startOfDay) : startOfDay.apply(upper);
+			if (end != null) {
+				predicates.add(lessThanPredicate(expression, end, builder));
+			}
+		}
+		if (range.getNotEquals() != null) {
+			predicates.add(dayExcludedPredicate(expression, range.getNotEquals(), range.getNotEquals(), startOfDay, builder));
+		}
+		if (range.getNotIn() != null) {
+			if (CriteriaAnalyzer.containsNull(range.getNotIn())) {
+				// null이 포함된 notIn 목록은 어떤 값도 만족하지 않습니다.
+				return builder.disjunction();
+			}
+			for (LocalDate[] run : dayRuns(range.getNotIn())) {
+				predicates.add(dayExcludedPredicate(expression, run[0], run[1], startOfDay, builder));
+			}
+		}
+		if (range.getExists() != null) {
+			predicates.add(specifiedPredicate(expression, range.getExists(), builder));
+		}
+		if (predicates.isEmpty()) {
+			return null;
+		}
+		return predicates.size() == 1 ? predicates.get(0) : builder.and(predicates.toArray(new Predicate[0]));
+	}
+
+	/**
+	 * {@code [first 시작, last 다음 날 시작)} 구간 조건
+	 */
+	private <X extends Comparable<? super X>> Predicate dayRangePredicate(Expression<X> expression, LocalDate first,
+																		  LocalDate last, Function<LocalDate, X> startOfDay,
+																		  CriteriaBuilder builder) {
+		Predicate lower = greaterThanOrEqualToPredicate(expression, startOfDay.apply(first), builder);
+		X end = dayEnd(last, startOfDay);
+		return end == null ? lower : builder.and(lower, lessThanPredicate(expression, end, builder));
+	}
+
+	/**
+	 * {@code [first 시작, last 다음 날 시작)} 구간 밖의 조건
+	 */
+	private <X extends Comparable<? super X>> Predicate dayExcludedPredicate(Expression<X> expression, LocalDate first,
+																			 LocalDate last, Function<LocalDate, X> startOfDay,
+																			 CriteriaBuilder builder) {
+		Predicate before = lessThanPredicate(expression, startOfDay.apply(first), builder);
+		X end = dayEnd(last, startOfDay);
+		return end == null ? before : builder.or(before, greaterThanOrEqualToPredicate(expression, end, builder));
+	}
+
+	/**
+	 * @return 다음 날이 시작되는 시각, 마지막 날짜이면 {@code null}
+	 */
+	private static <X> X dayEnd(LocalDate day, Function<LocalDate, X> startOfDay) {
+		return day.equals(LocalDate.MAX) ? null : startOfDay.apply(day.plusDays(1));
+	}
+
+	/**
+	 * null을 제외한 날짜를 정렬하고 연속된 날짜를 {@code {첫 날짜, 마지막 날짜}}로 묶습니다.
+	 */
+	private static List<LocalDate[]> dayRuns(Collection<LocalDate> days) {
+		List<LocalDate> sorted = new ArrayList<>(days.size());
+		for (LocalDate day : days) {
+			if (day != null) {
+				sorted.add(day);
+			}
+		}
+		sorted.sort(null);
+		List<LocalDate[]> runs = new ArrayList<>();
+		LocalDate[] run = null;
+		for (LocalDate day : sorted) {
+			if (run != null && (run[1].equals(LocalDate.MAX) || !day.isAfter(run[1].plusDays(1)))) {
+				if (day.isAfter(run[1])) {
+					run[1] = day;
+				}
+			} else {
+				run = new LocalDate[]{day, day};
+				runs.add(run);
+			}
+		}
+		return runs;
+	}
+
+	protected <X extends Comparable<? super X>> Predicate betweenPredicate(Expression<X> expression, X lower, X upper,
+																		   CriteriaBuilder builder) {
+		return builder.between(expression, lower, upper);
+	}
+
+	protected <X extends Comparable<? super X>> Predicate greaterThanOrEqualToPredicate(Expression<X> expression, X value,
+																						CriteriaBuilder builder) {
+		return builder.greaterThanOrEqualTo(expression, value);
+	}
+
+	protected <X extends Comparable<? super X>> Predicate greaterThanPredicate(Expression<X> expression, X value,
+																			   CriteriaBuilder builder) {
+		return builder.greaterThan(expression, value);
+	}
+
+	protected <X extends Comparable<? super X>> Predicate lessThanOrEqualToPredicate(Expression<X> expression, X value,
+																					 CriteriaBuilder builder) {
+		return builder.lessThanOrEqualTo(expression, value);
+	}
+
+	protected <X extends Comparable<? super X>> Predicate lessThanPredicate(Expression<X> expression, X value,
+																			CriteriaBuilder builder) {
+		return builder.lessThan(expression, value);
+	}
+
+	/**
+	 * 조회 기준이 어떤 행도 만족할 수 없는 조합인지 검사합니다.
+	 * {@code true}를 반환하면 쿼리를 실행하지 않고 빈 결과를 반환할 수 있습니다.
+	 * <pre>
+	 *      if (isUnsatisfiable(criteria)) {
+	 *          return Page.empty(pageable);
+	 *      }
+	 * </pre>
+	 *
+	 * 모든 필터를 하나의 컬럼에 대한 조건으로 and 결합한다고 가정하므로,
+	 * {@link #buildExistsSpecification(Filter, PluralAttribute, Function)}로 적용하거나 or로 결합하거나 적용하지 않는 필터가 있으면
+	 * {@link #isUnsatisfiable(Criteria, String...)}로 그 필드를 제외해야 합니다.
+	 *
+	 * @param criteria 검사할 조회 기준
+	 * @return 어떤 행도 만족할 수 없으면 {@code true}
+	 * @see CriteriaAnalyzer
+	 */
+	protected boolean isUnsatisfiable(Criteria criteria) {
+		return isUnsatisfiable(criteria, new String[0]);
+	}
+
+	/**
+	 * 지정한 필드를 제외하고 조회 기준이 어떤 행도 만족할 수 없는 조합인지 검사합니다.
+	 * <pre>
+	 *      if (isUnsatisfiable(criteria, "tagName")) {
+	 *          return Page.empty(pageable);
+	 *      }
+	 * </pre>
+	 *
+	 * @param criteria      검사할 조회 기준
+	 * @param ignoredFields {@code EXISTS}, {@code NOT EXISTS}로 적용하거나 or로 결합하거나 적용하지 않는 조회 기준 필드의 이름
+	 * @return 어떤 행도 만족할 수 없으면 {@code true}
+	 * @see CriteriaAnalyzer#isUnsatisfiable(Criteria, java.util.Collection)
+	 */
+	protected boolean isUnsatisfiable(Criteria criteria, String... ignoredFields) {
+		if (CriteriaAnalyzer.isUnsatisfiable(criteria, Set.of(ignoredFields))) {
+			unsatisfiableCriteriaCount.increment();
+			CriteriaInstrumentation instrumentation = getInstrumentation();
+			if (instrumentation != CriteriaInstrumentation.noop()) {
+				instrumentation.unsatisfiableCriteria(CriteriaProfile.of(criteria));
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return {@link #isUnsatisfiable(Criteria)}가 만족할 수 없는 조회 기준을 찾아낸 횟수
+	 */
+	public long getUnsatisfiableCriteriaCount() {
+		return unsatisfiableCriteriaCount.sum();
+	}
+
+	/**
+	 * 조회 사양 구성과 쿼리 실행을 기록할 계측.
+	 * {@link #instrumented(Criteria, Function)}로 만든 사양에만 적용됩니다.
+	 *
+	 * @return 사용할 계측, 기본값은 아무것도 기록하지 않는 {@link CriteriaInstrumentation#noop()}
+	 * @see SlowQueryLog
+	 */
+	protected CriteriaInstrumentation getInstrumentation() {
+		return CriteriaInstrumentation.noop();
+	}
+
+	/**
+	 * 조회 기준으로 조회 사양을 구성하고, 구성 시간과 조건 변환을 {@link #getInstrumentation()}에 기록합니다.
+	 * 반환된 사양을 {@link CriteriaExecutor}로 실행하면 쿼리 실행 시간도 기록됩니다.
+	 * 반환된 사양에 다른 사양을 {@code and}로 결합하면 실행 시간은 기록되지 않으므로, 완성된 사양에 적용하세요.
+	 * <pre>
+	 *      Specification&lt;Example&gt; specification = instrumented(criteria, this::createSpecification);
+	 * </pre>
+	 *
+	 * @param criteria 조회 기준
+	 * @param builder  조회 기준으로 조회 사양을 구성하는 함수
+	 * @param <C>      조회 기준의 유형
+	 * @return 계측되는 조회 사양
+	 */
+	protected <C extends Criteria> Specification<ENTITY> instrumented(C criteria,
+																	 Function<? super C, Specification<ENTITY>> builder) {
+		CriteriaInstrumentation instrumentation = getInstrumentation();
+		if (instrumentation == CriteriaInstrumentation.noop()) {
+			return builder.apply(criteria);
+		}
+		CriteriaProfile profile = CriteriaProfile.of(criteria);
+		long start = System.nanoTime();
+		Specification<ENTITY> specification = builder.apply(criteria);
+		instrumentation.specificationBuilt(profile, System.nanoTime() - start);
+		return new InstrumentedSpecification<>(specification, profile, instrumentation);
+	}
+
+	/**
+	 * 조회 결과를 캐시할 {@link QueryResultCache}.
+	 * 같은 조회 기준이 반복해서 요청되는 서비스에서 공유할 캐시를 반환하도록 재정의하세요.
+	 *
+	 * @return 사용할 캐시, 기본값은 캐시를 사용하지 않는 {@code null}
+	 */
+	protected QueryResultCache getQueryResultCache() {
+		return null;
+	}
+
+	/**
+	 * 조회 기준과 페이지 등으로 캐시된 결과를 반환하거나, 없으면 {@code loader}로 조회하여 캐시합니다.
+	 * {@link #getQueryResultCache()}가 {@code null}이면 항상 {@code loader}를 호출합니다.
+	 * 캐시된 결과는 여러 세션과 스레드가 공유하므로 id나 DTO처럼 영속성 컨텍스트와 무관한 값만 캐시해야 합니다.
+	 * 관리 상태의 엔티티를 캐시하면 다른 호출자가 엔티티를 수정하거나, 닫힌 영속성 컨텍스트에서 지연 로딩을 시도하게 됩니다.
+	 * <pre>
+	 *      return cached(Example.class, CriteriaKey.of(criteria, pageable),
+	 *              () -&gt; executor.findPage(createSpecification(criteria), ExampleSummary.class, pageable,
+	 *                      List.of(Example_.id, Example_.stringField)));
+	 * </pre>
+	 *
+	 * 조회하는 엔티티 유형이 변경될 때만 제거되므로, join이나 서브쿼리로 다른 엔티티를 조건에 사용하거나 조회한다면
+	 * {@link #cached(Class, Set, CriteriaKey, Supplier)}로 그 엔티티 유형도 지정하세요.
+	 *
+	 * @param entityType 조회하는 엔티티의 유형, 이 유형의 엔티티가 변경되면 캐시된 결과가 제거됩니다.
+	 * @param key        조회 기준과 결과에 영향을 주는 값으로 만든 키
+	 * @param loader     캐시에 결과가 없을 때 조회하는 함수
+	 * @param <R>        결과의 유형
+	 * @return 조회 결과
+	 */
+	protected <R> R cached(Class<? super ENTITY> entityType, CriteriaKey key, Supplier<R> loader) {
+		return cached(entityType, Set.of(), key, loader);
+	}
+
+	/**
+	 * 조회하는 엔티티나 결과에 영향을 주는 다른 엔티티가 변경되면 제거되는 캐시된 결과를 반환하거나, 없으면 {@code loader}로 조회하여 캐시합니다.
+	 * <pre>
+	 *      return cached(Example.class, Set.of(Tag.class), CriteriaKey.of(criteria, pageable),
+	 *              () -&gt; executor.findPage(createSpecification(criteria), ExampleSummary.class, pageable,
+	 *                      List.of(Example_.id, Example_.stringField)));
+	 * </pre>
+	 *
+	 * @param entityType     조회하는 엔티티의 유형
+	 * @param dependentTypes join, 서브쿼리로 조건이나 결과에 사용하는 다른 엔티티의 유형
+	 * @param key            조회 기준과 결과에 영향을 주는 값으로 만든 키
+	 * @param loader         캐시에 결과가 없을 때 조회하는 함수
+	 * @param <R>            결과의 유형
+	 * @return 조회 결과
+	 * @see #cached(Class, CriteriaKey, Supplier)
+	 */
+	protected <R> R cached(Class<? super ENTITY> entityType, Set<Class<?>> dependentTypes, CriteriaKey key, Supplier<R> loader) {
+		QueryResultCache cache = getQueryResultCache();
+		if (cache == null) {
+			return loader.get();
+		}
+		Set<Class<?>> entityTypes = new HashSet<>(dependentTypes);
+		entityTypes.add(entityType);
+		return cache.get(entityTypes, key, loader);
+	}
+
+	/**
+	 * 쿼리가 {@link CriteriaExecutor#count(Specification)}의 count 쿼리,
+	 * {@link CriteriaExecutor#bounds(Specification, SingularAttribute)}의 최솟값/최댓값 쿼리나
+	 * {@link CriteriaExecutor#countFacets(Specification, List)}의 GROUP BY 쿼리처럼 엔티티를 선택하지 않는 집계 쿼리인지 확인합니다.
+	 * fetch join이나 정렬처럼 count 쿼리에 필요 없는 처리를 하는 사양에서 이 함수로 count 쿼리를 제외하세요.
+	 * 결과 유형이 아니라 {@link CriteriaExecutor}가 표시한 값으로 판단하므로, {@code Long} id만 조회하는 쿼리는 count 쿼리가 아닙니다.
+	 * 저장소의 {@code findAll(specification, pageable)}이 실행하는 count 쿼리는 구분할 수 없으므로,
+	 * fetch join을 사용하는 사양은 {@link CriteriaExecutor#findPage(Specification, org.springframework.data.domain.Pageable)}로 실행하세요.
+	 *
+	 * @param query 사양이 적용되는 쿼리
+	 * @return count 쿼리이면 {@code true}
+	 */
+	protected static boolean isCountQuery(CriteriaQuery<?> query) {
+		return CriteriaExecutor.isAggregateQuery(query);
+	}
+
+	/**
+	 * startsWith, endsWith 조건에서 대소문자를 구분하지 않는 방법.
+	 * 사용하는 인덱스에 맞추어 재정의하세요. 예를 들어 {@code lower(column)} 함수 인덱스를 사용한다면
+	 * {@link CaseInsensitivity#LOWER}를, 대소문자를 구분하지 않는 collation을 사용한다면 {@link CaseInsensitivity#COLLATION}을 반환합니다.
+	 *
+	 * @return 대소문자를 구분하지 않는 방법, 기본값은 contains 조건과 같은 {@link CaseInsensitivity#UPPER}
+	 */
+	protected CaseInsensitivity getCaseInsensitivity() {
+		return CaseInsensitivity.UPPER;
+	}
+
+	/**
+	 * fullText 조건을 변환할 전문 검색 방법.
+	 * 운영 데이터베이스에 맞는 구현({@link FullTextSearch#postgresql()}, {@link FullTextSearch#function(String)} 등)을 반환하도록 재정의하세요.
+	 *
+	 * @return 전문 검색 방법, 기본값은 모든 데이터베이스에서 동작하는 {@link FullTextSearch#like()}
+	 */
+	protected FullTextSearch getFullTextSearch() {
+		return FULL_TEXT_FALLBACK;
+	}
+
+	/**
+	 * LIKE 패턴에서 특별한 의미를 갖는 {@code %}, {@code _} 문자와 이스케이프 문자를 이스케이프합니다.
+	 *
+	 * @param value 사용자가 입력한 값
+	 * @return LIKE 패턴에 그대로 넣을 수 있는 값
+	 */
+	protected String escapeLikeValue(String value) {
+		StringBuilder escaped = new StringBuilder(value.length() + 4);
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+				escaped.append(LIKE_ESCAPE);
+			}
+			escaped.append(c);
+		}
+		return escaped.toString();
 	}
 
 	protected String wrapLikeQuery(String txt) {
-		return "%" + txt.toUpperCase() + '%';
+		return "%" + txt.toUpperCase(Locale.ROOT) + '%';
+	}
+
+	/**
+	 * 연관 관계를 inner join합니다. 같은 쿼리에서 같은 속성을 같은 방식으로 이미 join했다면 그 join을 재사용하므로,
+	 * 같은 연관 엔티티의 여러 속성에 필터를 적용해도 join은 하나만 만들어집니다.
+	 * <pre>
+	 *      buildStringSpecification(criteria.getCity(),
+	 *              root -&gt; join(join(root, Example_.customer), Customer_.address).get(Address_.city));
+	 * </pre>
+	 *
+	 * @param from      join을 시작할 엔티티
+	 * @param attribute join할 연관 관계 속성
+	 * @param <Z>       시작 엔티티의 유형
+	 * @param <Y>       연관 엔티티의 유형
+	 * @return 새로 만들었거나 재사용한 join
+	 */
+	protected static <Z, Y> Join<Z, Y> join(From<?, Z> from, SingularAttribute<? super Z, Y> attribute) {
+		return join(from, attribute, JoinType.INNER);
+	}
+
+	/**
+	 * @param from      join을 시작할 엔티티
+	 * @param attribute join할 연관 관계 속성
+	 * @param joinType  join 방식
+	 * @param <Z>       시작 엔티티의 유형
+	 * @param <Y>       연관 엔티티의 유형
+	 * @return 새로 만들었거나 재사용한 join
+	 * @see #join(From, SingularAttribute)
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <Z, Y> Join<Z, Y> join(From<?, Z> from, SingularAttribute<? super Z, Y> attribute, JoinType joinType) {
+		Join<Z, ?> join = findJoin(from, attribute, joinType);
+		return join != null ? (Join<Z, Y>) join : from.join(attribute, joinType);
+	}
+
+	/**
+	 * 컬렉션 속성을 join합니다. 컬렉션 join을 재사용하면 그 join에 적용한 조건들을 모두 같은 원소가 만족해야 하므로,
+	 * {@code tags.name=a}와 {@code tags.name=b}를 각각 적용하면 이름이 a이면서 b인 원소를 찾게 되어 어떤 행도 만족하지 않습니다.
+	 * 조건마다 다른 원소를 찾으려면 {@code sameElement}를 {@code false}로 지정하여 새 join을 만드세요.
+	 * 컬렉션 join은 행을 중복시키므로 필터에는 {@link #buildExistsSpecification(Filter, PluralAttribute, Function)}를 먼저 고려하세요.
+	 *
+	 * @param from        join을 시작할 엔티티
+	 * @param attribute   join할 컬렉션 속성
+	 * @param joinType    join 방식
+	 * @param sameElement 이미 만든 join을 재사용하여 조건들을 같은 원소에 적용하려면 {@code true}
+	 * @param <Z>         시작 엔티티의 유형
+	 * @param <Y>         컬렉션 원소의 유형
+	 * @return 새로 만들었거나 재사용한 join
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <Z, Y> SetJoin<Z, Y> join(From<?, Z> from, SetAttribute<? super Z, Y> attribute, JoinType joinType,
+											   boolean sameElement) {
+		Join<Z, ?> join = sameElement ? findJoin(from, attribute, joinType) : null;
+		return join instanceof SetJoin ? (SetJoin<Z, Y>) join : from.join(attribute, joinType);
+	}
+
+	/**
+	 * @param from        join을 시작할 엔티티
+	 * @param attribute   join할 컬렉션 속성
+	 * @param joinType    join 방식
+	 * @param sameElement 이미 만든 join을 재사용하여 조건들을 같은 원소에 적용하려면 {@code true}
+	 * @param <Z>         시작 엔티티의 유형
+	 * @param <Y>         컬렉션 원소의 유형
+	 * @return 새로 만들었거나 재사용한 join
+	 * @see #join(From, SetAttribute, JoinType, boolean)
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <Z, Y> ListJoin<Z, Y> join(From<?, Z> from, ListAttribute<? super Z, Y> attribute, JoinType joinType,
+												boolean sameElement) {
+		Join<Z, ?> join = sameElement ? findJoin(from, attribute, joinType) : null;
+		return join instanceof ListJoin ? (ListJoin<Z, Y>) join : from.join(attribute, joinType);
+	}
+
+	/**
+	 * 속성 경로를 차례로 join합니다. 경로의 단일 연관 관계 단계는 이미 만든 join을 재사용하고,
+	 * 컬렉션 단계는 조건마다 다른 원소를 찾을 수 있도록 항상 새 join을 만듭니다.
+	 * 컬렉션의 같은 원소에 여러 조건을 적용하려면 {@link #join(From, SetAttribute, JoinType, boolean)}를 사용하세요.
+	 * <pre>
+	 *      root -&gt; join(root, JoinType.LEFT, Example_.customer, Customer_.address).get(Address_.city)
+	 * </pre>
+	 *
+	 * @param from     join을 시작할 엔티티
+	 * @param joinType 모든 단계에 사용할 join 방식
+	 * @param path     차례로 join할 연관 관계 또는 컬렉션 속성
+	 * @param <Y>      경로 마지막 엔티티의 유형
+	 * @return 경로 마지막 단계의 join
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected static <Y> From<?, Y> join(From<?, ?> from, JoinType joinType, Attribute<?, ?>... path) {
+		From current = from;
+		for (Attribute<?, ?> attribute : path) {
+			Join<?, ?> join = attribute.isCollection() ? null : findJoin(current, attribute, joinType);
+			current = join != null ? join : current.join(attribute.getName(), joinType);
+		}
+		return (From<?, Y>) current;
+	}
+
+	/**
+	 * 같은 속성을 같은 방식으로 join했고 on 조건이 없는 join을 찾습니다.
+	 * {@link From#getJoins()}는 fetch join을 포함하지 않으므로 fetch join은 재사용하지 않습니다.
+	 */
+	private static <Z> Join<Z, ?> findJoin(From<?, Z> from, Attribute<?, ?> attribute, JoinType joinType) {
+		for (Join<Z, ?> join : from.getJoins()) {
+			if (join.getJoinType() == joinType && join.getOn() == null && join.getAttribute() != null
+					&& join.getAttribute().getName().equals(attribute.getName())) {
+				return join;
+			}
+		}
+		return null;
 	}
 
 	protected Specification<ENTITY> distinct(boolean distinct) {
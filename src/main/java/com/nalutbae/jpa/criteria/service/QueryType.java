@@ -0,0 +1,31 @@
+package com.nalutbae.jpa.criteria.service;
+
+/**
+ * 계측({@link CriteriaInstrumentation})에서 구분하는 쿼리의 종류
+ */
+public enum QueryType {
+
+	/**
+	 * 엔티티, DTO 또는 {@code Tuple}을 조회하는 쿼리
+	 */
+	CONTENT,
+
+	/**
+	 * 전체 건수를 조회하는 count 쿼리
+	 */
+	COUNT,
+
+	/**
+	 * 속성 값별 건수를 조회하는 GROUP BY 쿼리
+	 *
+	 * @see CriteriaExecutor#countFacets(org.springframework.data.jpa.domain.Specification, java.util.List)
+	 */
+	FACET,
+
+	/**
+	 * 속성의 최솟값과 최댓값을 조회하는 쿼리
+	 *
+	 * @see CriteriaExecutor#bounds(org.springframework.data.jpa.domain.Specification, jakarta.persistence.metamodel.SingularAttribute)
+	 */
+	AGGREGATE
+}
@@ -0,0 +1,51 @@
+package com.nalutbae.jpa.criteria.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기준 시간보다 오래 걸린 쿼리를 조회 기준과 함께 로그로 남기는 계측.
+ * 조회 기준은 {@link CriteriaProfile#toCompactString()} 형식으로 기록됩니다.
+ * JDK의 {@link System.Logger}를 사용하므로 별도의 로깅 라이브러리가 필요 없습니다.
+ * <pre>
+ *      Slow criteria query CONTENT 1250 ms (20 rows): ExampleCriteria{id.in=[1, 2, 3, 4, 5, …+95], status.equals=OPEN}
+ * </pre>
+ */
+public class SlowQueryLog implements CriteriaInstrumentation {
+
+	private static final System.Logger LOGGER = System.getLogger(SlowQueryLog.class.getName());
+
+	private final long thresholdNanos;
+
+	/**
+	 * @param threshold 로그를 남길 최소 실행 시간
+	 */
+	public SlowQueryLog(Duration threshold) {
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	@Override
+	public void queryExecuted(CriteriaProfile profile, QueryType type, long elapsedNanos, long resultCount) {
+		if (elapsedNanos >= thresholdNanos) {
+			log("Slow criteria query " + type + ' ' + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms ("
+					+ resultCount + (type == QueryType.COUNT ? " counted" : " rows") + "): " + profile.toCompactString());
+		}
+	}
+
+	@Override
+	public void queryFailed(CriteriaProfile profile, QueryType type, long elapsedNanos, RuntimeException failure) {
+		if (elapsedNanos >= thresholdNanos) {
+			log("Slow criteria query " + type + ' ' + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms (failed: "
+					+ failure + "): " + profile.toCompactString());
+		}
+	}
+
+	/**
+	 * 로그를 남깁니다. 다른 로깅 방법을 사용하려면 재정의하세요.
+	 *
+	 * @param message 로그 메시지
+	 */
+	protected void log(String message) {
+		LOGGER.log(System.Logger.Level.WARNING, message);
+	}
+}
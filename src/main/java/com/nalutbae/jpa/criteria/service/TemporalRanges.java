@@ -0,0 +1,96 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.ZonedDateTimeFilter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 날짜와 시각 필터를 정리하는 함수 모음.
+ * <ul>
+ *     <li>{@link #toUtc(ZonedDateTimeFilter)} - 서로 다른 시간대로 요청된 값을 UTC로 맞춥니다.</li>
+ *     <li>{@code *DayStart} - 날짜를 그날이 시작되는 시각으로 변환합니다.
+ *     {@link QueryService#buildDaySpecification(com.nalutbae.jpa.criteria.filter.LocalDateFilter, Function, Function)}에서
+ *     날짜 조건을 시각 컬럼의 {@code [시작, 다음 날 시작)} 구간으로 바꿀 때 사용합니다.</li>
+ * </ul>
+ */
+public final class TemporalRanges {
+
+	private TemporalRanges() {
+	}
+
+	/**
+	 * 필터의 모든 값을 같은 순간의 UTC 시각으로 바꾼 복사본을 반환합니다.
+	 * 시간대가 달라도 같은 순간이면 같은 값이 되므로 범위 조건을 정리하거나 in 목록의 중복을 제거할 수 있습니다.
+	 *
+	 * @param filter 정리할 필터
+	 * @return UTC로 맞춘 필터
+	 */
+	public static ZonedDateTimeFilter toUtc(ZonedDateTimeFilter filter) {
+		ZonedDateTimeFilter utc = new ZonedDateTimeFilter();
+		utc.setEquals(toUtc(filter.getEquals()));
+		utc.setNotEquals(toUtc(filter.getNotEquals()));
+		utc.setExists(filter.getExists());
+		utc.setIn(toUtc(filter.getIn()));
+		utc.setNotIn(toUtc(filter.getNotIn()));
+		utc.setGreaterThan(toUtc(filter.getGreaterThan()));
+		utc.setGreaterThanOrEqual(toUtc(filter.getGreaterThanOrEqual()));
+		utc.setLessThan(toUtc(filter.getLessThan()));
+		utc.setLessThanOrEqual(toUtc(filter.getLessThanOrEqual()));
+		return utc;
+	}
+
+	/**
+	 * @param zone 날짜의 경계를 정하는 시간대
+	 * @return 날짜를 그 시간대에서 그날이 시작되는 순간으로 변환하는 함수
+	 */
+	public static Function<LocalDate, Instant> instantDayStart(ZoneId zone) {
+		return date -> date.atStartOfDay(zone).toInstant();
+	}
+
+	/**
+	 * @param zone 날짜의 경계를 정하는 시간대
+	 * @return 날짜를 그 시간대에서 그날이 시작되는 순간의 UTC 시각으로 변환하는 함수
+	 */
+	public static Function<LocalDate, ZonedDateTime> zonedDateTimeDayStart(ZoneId zone) {
+		return date -> date.atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC);
+	}
+
+	/**
+	 * @param zone 날짜의 경계를 정하는 시간대
+	 * @return 날짜를 그 시간대에서 그날이 시작되는 순간의 UTC 시각으로 변환하는 함수
+	 */
+	public static Function<LocalDate, OffsetDateTime> offsetDateTimeDayStart(ZoneId zone) {
+		return date -> date.atStartOfDay(zone).toOffsetDateTime().withOffsetSameInstant(ZoneOffset.UTC);
+	}
+
+	/**
+	 * @return 날짜를 그날 자정으로 변환하는 함수, 시간대 없는 시각 컬럼에 사용합니다.
+	 */
+	public static Function<LocalDate, LocalDateTime> localDateTimeDayStart() {
+		return LocalDate::atStartOfDay;
+	}
+
+	private static ZonedDateTime toUtc(ZonedDateTime value) {
+		return value == null ? null : value.withZoneSameInstant(ZoneOffset.UTC);
+	}
+
+	private static List<ZonedDateTime> toUtc(List<ZonedDateTime> values) {
+		if (values == null) {
+			return null;
+		}
+		List<ZonedDateTime> utc = new ArrayList<>(values.size());
+		for (ZonedDateTime value : values) {
+			utc.add(toUtc(value));
+		}
+		return utc;
+	}
+}
@@ -0,0 +1,176 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.Criteria;
+import com.nalutbae.jpa.criteria.filter.BigDecimalFilter;
+import com.nalutbae.jpa.criteria.filter.Filter;
+import com.nalutbae.jpa.criteria.filter.FilterOperator;
+import com.nalutbae.jpa.criteria.filter.LocalDateFilter;
+import com.nalutbae.jpa.criteria.filter.LongArrayFilter;
+import com.nalutbae.jpa.criteria.filter.LongFilter;
+import com.nalutbae.jpa.criteria.filter.StringFilter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CriteriaCodecTest {
+
+	/**
+	 * {@link #fingerprintDoesNotDependOnTheJvm()}의 조회 기준의 지문. 인코딩 형식이 바뀌면 함께 바꿔야 합니다.
+	 */
+	private static final long FINGERPRINT = 4433438914759353548L;
+
+	@Test
+	void decodesEncodedCriteria() {
+		ExampleCriteria criteria = example(List.of(3L, 1L, 2L), "1.50");
+
+		ExampleCriteria decoded = CriteriaCodec.decode(CriteriaCodec.encode(criteria), ExampleCriteria.class);
+
+		assertEquals(List.of(1L, 2L, 3L), decoded.id.getIn());
+		assertEquals(criteria.name, decoded.name);
+		assertEquals(0, new BigDecimal("1.5").compareTo(decoded.amount.getGreaterThan()));
+		assertEquals(criteria.createdDate, decoded.createdDate);
+		assertEquals(criteria.status, decoded.status);
+		assertEquals(Boolean.TRUE, decoded.distinct);
+		assertNull(decoded.ownerIds);
+	}
+
+	@Test
+	void encodingIsStableAcrossRoundTrips() {
+		ExampleCriteria criteria = example(List.of(3L, 1L, 2L), "1.50");
+		byte[] bytes = CriteriaCodec.encode(criteria);
+
+		ExampleCriteria decoded = CriteriaCodec.decode(bytes, ExampleCriteria.class);
+
+		assertArrayEquals(bytes, CriteriaCodec.encode(decoded));
+		assertEquals(CriteriaCodec.fingerprint(criteria), CriteriaCodec.fingerprint(decoded));
+	}
+
+	@Test
+	void ignoresInOrderDuplicatesAndDecimalScale() {
+		ExampleCriteria criteria = example(List.of(3L, 1L, 2L, 1L), "1.50");
+		ExampleCriteria equivalent = example(List.of(1L, 2L, 3L), "1.5");
+
+		assertArrayEquals(CriteriaCodec.encode(criteria), CriteriaCodec.encode(equivalent));
+		assertEquals(CriteriaCodec.fingerprint(criteria), CriteriaCodec.fingerprint(equivalent));
+	}
+
+	@Test
+	void encodesEmptyFilterAsNull() {
+		ExampleCriteria criteria = example(List.of(1L), "1");
+		ExampleCriteria withEmptyFilter = example(List.of(1L), "1");
+		withEmptyFilter.ownerIds = new LongFilter();
+
+		assertEquals(CriteriaCodec.fingerprint(criteria), CriteriaCodec.fingerprint(withEmptyFilter));
+	}
+
+	@Test
+	void fingerprintDistinguishesValues() {
+		assertNotEquals(CriteriaCodec.fingerprint(example(List.of(1L, 2L), "1")),
+				CriteriaCodec.fingerprint(example(List.of(1L, 3L), "1")));
+		assertNotEquals(CriteriaCodec.fingerprint(example(List.of(1L), "1")),
+				CriteriaCodec.fingerprint(example(List.of(1L), "2")));
+	}
+
+	@Test
+	void fingerprintDoesNotDependOnTheJvm() {
+		ExampleCriteria criteria = new ExampleCriteria();
+		criteria.id = new LongFilter();
+		criteria.id.setEquals(42L);
+		criteria.name = new StringFilter().setStartsWith("ab");
+
+		assertEquals(FINGERPRINT, CriteriaCodec.fingerprint(criteria));
+	}
+
+	@Test
+	void decodesFilterSubclassInDeclaredBaseField() {
+		LongArrayFilter ownerIds = new LongArrayFilter();
+		ownerIds.setInValues(3, 1, 3);
+		ExampleCriteria criteria = new ExampleCriteria();
+		criteria.ownerIds = ownerIds;
+
+		ExampleCriteria decoded = CriteriaCodec.decode(CriteriaCodec.encode(criteria), ExampleCriteria.class);
+
+		assertEquals(LongArrayFilter.class, decoded.ownerIds.getClass());
+		assertEquals(List.of(1L, 3L), decoded.ownerIds.getIn());
+	}
+
+	@Test
+	void decodesFilter() {
+		StringFilter filter = new StringFilter().setContains("a%b");
+		filter.setNotIn(Arrays.asList("b", null, "a"));
+
+		StringFilter decoded = CriteriaCodec.decodeFilter(CriteriaCodec.encode(filter), StringFilter.class);
+
+		assertEquals("a%b", decoded.getContains());
+		assertEquals(Arrays.asList(null, "a", "b"), decoded.getNotIn());
+	}
+
+	@Test
+	void rejectsFilterOfAnotherType() {
+		LongFilter filter = new LongFilter();
+		filter.setEquals(1L);
+		byte[] bytes = CriteriaCodec.encode(filter);
+
+		assertThrows(IllegalArgumentException.class, () -> CriteriaCodec.decodeFilter(bytes, StringFilter.class));
+	}
+
+	@Test
+	void rejectsMalformedInput() {
+		byte[] bytes = CriteriaCodec.encode(example(List.of(1L), "1"));
+
+		assertThrows(IllegalArgumentException.class, () -> CriteriaCodec.decode(bytes, OtherCriteria.class));
+		assertThrows(IllegalArgumentException.class,
+				() -> CriteriaCodec.decode(Arrays.copyOf(bytes, bytes.length - 1), ExampleCriteria.class));
+		assertThrows(IllegalArgumentException.class,
+				() -> CriteriaCodec.decode(Arrays.copyOf(bytes, bytes.length + 1), ExampleCriteria.class));
+	}
+
+	private static ExampleCriteria example(List<Long> ids, String amount) {
+		ExampleCriteria criteria = new ExampleCriteria();
+		criteria.id = new LongFilter();
+		criteria.id.setIn(ids);
+		criteria.name = new StringFilter().setStartsWith("ab%");
+		criteria.amount = new BigDecimalFilter();
+		criteria.amount.setGreaterThan(new BigDecimal(amount));
+		criteria.createdDate = new LocalDateFilter().setLessThan(LocalDate.of(2024, 2, 29));
+		criteria.status = new Filter<>();
+		criteria.status.setEquals(FilterOperator.IN);
+		criteria.distinct = true;
+		return criteria;
+	}
+
+	static class ExampleCriteria implements Criteria {
+
+		private LongFilter id;
+		private StringFilter name;
+		private BigDecimalFilter amount;
+		private LocalDateFilter createdDate;
+		private Filter<FilterOperator> status;
+		private Filter<Long> ownerIds;
+		private Boolean distinct;
+
+		@Override
+		public Criteria copy() {
+			return this;
+		}
+	}
+
+	static class OtherCriteria implements Criteria {
+
+		private LongFilter id;
+
+		@Override
+		public Criteria copy() {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.nalutbae.jpa.criteria.service;
+
+import com.nalutbae.jpa.criteria.filter.LocalDateFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link QueryService#dayPredicate(LocalDateFilter, Expression, java.util.function.Function, CriteriaBuilder)}가 만드는 조건을
+ * 호출한 {@link CriteriaBuilder} 메서드와 인자를 기록한 문자열로 확인합니다.
+ */
+class DayPredicateTest {
+
+	private static final LocalDate MAX = LocalDate.MAX;
+
+	private final QueryService<Object> queryService = new QueryService<>() {
+	};
+
+	private final CriteriaBuilder builder = recording(CriteriaBuilder.class, "builder");
+
+	@SuppressWarnings("unchecked")
+	private final Expression<LocalDateTime> day = recording(Expression.class, "day");
+
+	@Test
+	void equalsCoversTheWholeDay() {
+		assertEquals("and(greaterThanOrEqualTo(day, 2024-02-29T00:00), lessThan(day, 2024-03-01T00:00))",
+				predicate(new LocalDateFilter().setEquals(LocalDate.of(2024, 2, 29))));
+	}
+
+	@Test
+	void equalsLastDateHasNoUpperBound() {
+		assertEquals("greaterThanOrEqualTo(day, +999999999-12-31T00:00)", predicate(new LocalDateFilter().setEquals(MAX)));
+	}
+
+	@Test
+	void inMergesConsecutiveDays() {
+		LocalDateFilter filter = new LocalDateFilter().setIn(Arrays.asList(march(3), march(1), null, march(2), march(5), march(5)));
+
+		assertEquals("or(and(greaterThanOrEqualTo(day, 2024-03-01T00:00), lessThan(day, 2024-03-04T00:00)), "
+				+ "and(greaterThanOrEqualTo(day, 2024-03-05T00:00), lessThan(day, 2024-03-06T00:00)))", predicate(filter));
+	}
+
+	@Test
+	void inEndingAtLastDateHasNoUpperBound() {
+		LocalDateFilter filter = new LocalDateFilter().setIn(List.of(MAX, MAX.minusDays(1)));
+
+		assertEquals("greaterThanOrEqualTo(day, +999999999-12-30T00:00)", predicate(filter));
+	}
+
+	@Test
+	void emptyInMatchesNothing() {
+		assertEquals("disjunction()", predicate(new LocalDateFilter().setIn(new ArrayList<>())));
+	}
+
+	@Test
+	void exclusiveBoundsStartAtDayBoundaries() {
+		LocalDateFilter filter = new LocalDateFilter().setGreaterThan(march(1)).setLessThan(march(5));
+
+		assertEquals("and(greaterThanOrEqualTo(day, 2024-03-02T00:00), lessThan(day, 2024-03-05T00:00))", predicate(filter));
+	}
+
+	@Test
+	void inclusiveBoundsIncludeTheWholeLastDay() {
+		LocalDateFilter filter = new LocalDateFilter().setGreaterThanOrEqual(march(1)).setLessThanOrEqual(march(5));
+
+		assertEquals("and(greaterThanOrEqualTo(day, 2024-03-01T00:00), lessThan(day, 2024-03-06T00:00))", predicate(filter));
+	}
+
+	@Test
+	void boundsAtLastDate() {
+		assertEquals("disjunction()", predicate(new LocalDateFilter().setGreaterThan(MAX)));
+		assertNull(predicate(new LocalDateFilter().setLessThanOrEqual(MAX)));
+		assertEquals("greaterThanOrEqualTo(day, 2024-03-01T00:00)",
+				predicate(new LocalDateFilter().setGreaterThanOrEqual(march(1)).setLessThanOrEqual(MAX)));
+	}
+
+	@Test
+	void emptyRangeMatchesNothing() {
+		assertEquals("disjunction()", predicate(new LocalDateFilter().setGreaterThan(march(5)).setLessThan(march(3))));
+	}
+
+	@Test
+	void notInExcludesRunsOfDays() {
+		LocalDateFilter filter = new LocalDateFilter().setNotIn(List.of(march(4), march(1), march(2)));
+
+		assertEquals("and(or(lessThan(day, 2024-03-01T00:00), greaterThanOrEqualTo(day, 2024-03-03T00:00)), "
+				+ "or(lessThan(day, 2024-03-04T00:00), greaterThanOrEqualTo(day, 2024-03-05T00:00)))", predicate(filter));
+	}
+
+	@Test
+	void notInLastDateExcludesEverythingFromItsStart() {
+		assertEquals("lessThan(day, +999999999-12-31T00:00)", predicate(new LocalDateFilter().setNotIn(List.of(MAX))));
+	}
+
+	@Test
+	void notInWithNullMatchesNothing() {
+		assertEquals("disjunction()", predicate(new LocalDateFilter().setNotIn(Arrays.asList(march(1), null))));
+	}
+
+	private String predicate(LocalDateFilter filter) {
+		Predicate predicate = queryService.dayPredicate(filter, day, LocalDate::atStartOfDay, builder);
+		return predicate == null ? null : predicate.toString();
+	}
+
+	private static LocalDate march(int dayOfMonth) {
+		return LocalDate.of(2024, 3, dayOfMonth);
+	}
+
+	/**
+	 * @return {@code toString()}이 {@code description}이고, 인터페이스를 반환하는 메서드는 호출한 메서드와 인자를 기록한 프록시를 반환하는 프록시
+	 */
+	private static <T> T recording(Class<T> type, String description) {
+		return type.cast(Proxy.newProxyInstance(DayPredicateTest.class.getClassLoader(), new Class<?>[]{type},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "toString" -> description;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> {
+						if (!method.getReturnType().isInterface()) {
+							throw new UnsupportedOperationException(method.toString());
+						}
+						yield recording(method.getReturnType(), method.getName() + describe(args));
+					}
+				}));
+	}
+
+	private static String describe(Object[] args) {
+		StringJoiner joiner = new StringJoiner(", ", "(", ")");
+		if (args != null) {
+			for (Object arg : args) {
+				if (arg instanceof Object[] array) {
+					Arrays.stream(array).forEach(element -> joiner.add(String.valueOf(element)));
+				} else {
+					joiner.add(String.valueOf(arg));
+				}
+			}
+		}
+		return joiner.toString();
+	}
+}